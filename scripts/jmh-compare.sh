@@ -0,0 +1,54 @@
+#!/bin/sh
+# ============================================================
+# Campus Study Hub — Compare JMH Results
+# ============================================================
+# Compares two JMH JSON result files (e.g. from two commits) and prints the
+# change per benchmark and parameter set. Exits 1 when any benchmark got
+# slower by more than the threshold percentage (default 10).
+#
+# Usage:
+#   git checkout main && ./mvnw -Pjmh test-compile exec:exec -Djmh.result=target/jmh-base.json
+#   git checkout -    && ./mvnw -Pjmh test-compile exec:exec -Djmh.result=target/jmh-new.json
+#   ./scripts/jmh-compare.sh target/jmh-base.json target/jmh-new.json [threshold]
+# ============================================================
+
+set -e
+
+if [ $# -lt 2 ]; then
+    echo "Usage: $0 <base.json> <new.json> [threshold-percent]" >&2
+    exit 2
+fi
+
+BASE="$1"
+NEW="$2"
+THRESHOLD="${3:-10}"
+OUTPUT="$(mktemp)"
+trap 'rm -f "$OUTPUT"' EXIT
+
+jq -r -n --slurpfile base "$BASE" --slurpfile new "$NEW" --argjson threshold "$THRESHOLD" '
+  def key: .benchmark + (if (.params // {}) == {} then ""
+      else " [" + ((.params | to_entries | map("\(.key)=\(.value)") | join(", "))) + "]" end);
+  ($base[0] | map({key: key, value: .}) | from_entries) as $before
+  | $new[0]
+  | map(select($before[key] != null)
+      | . as $after
+      | $before[key] as $prior
+      | (($after.primaryMetric.score - $prior.primaryMetric.score) / $prior.primaryMetric.score * 100) as $change
+      # Higher is better for throughput, lower is better for time per operation
+      | (if $after.mode == "thrpt" then -$change else $change end) as $slower
+      | {
+          name: (key | sub("^com\\.campusstudyhub\\.benchmark\\."; "")),
+          before: $prior.primaryMetric.score,
+          after: $after.primaryMetric.score,
+          unit: $after.primaryMetric.scoreUnit,
+          change: $change,
+          regression: ($slower > $threshold)
+        })
+  | (.[] | "\(if .regression then "SLOWER" else "      " end)  \(.name)  \(.before * 1000 | round / 1000) -> \(.after * 1000 | round / 1000) \(.unit)  (\(if .change >= 0 then "+" else "" end)\(.change * 10 | round / 10)%)"),
+    (if any(.[]; .regression) then "REGRESSION" else empty end)
+' | tee "$OUTPUT"
+
+if grep -q '^REGRESSION$' "$OUTPUT"; then
+    echo "At least one benchmark is more than ${THRESHOLD}% slower." >&2
+    exit 1
+fi
@@ -0,0 +1,147 @@
+#!/bin/sh
+# ============================================================
+# Campus Study Hub — Load Test Seed Data
+# ============================================================
+# Creates the users, rooms, bookings and notes that workload.js expects.
+# Safe to run repeatedly: users and rooms are only added when missing and
+# bookings/notes are topped up to the requested counts.
+#
+# Usage:
+#   ./scripts/load-tests/seed-workload.sh
+#   SEED_USERS=1000 SEED_BOOKINGS=20000 ./scripts/load-tests/seed-workload.sh
+#
+# Environment Variables:
+#   DB_HOST, DB_PORT, DB_NAME, DB_USERNAME, DB_PASSWORD — as seed-data.sh
+#   SEED_USERS              — students loadtest-user-N@campus.test (default: 200)
+#   SEED_ROOMS              — rooms "Load Test Room N" (default: 20)
+#   SEED_BOOKINGS           — bookings spread over the next 30 days (default: 5000)
+#   SEED_NOTES_PER_SUBJECT  — notes on every subject (default: 3)
+#   LOADTEST_PASSWORD       — password for every seeded user (default: loadtest123)
+#   UPLOAD_DIR              — the app's app.upload.dir; the note PDFs are written
+#                             here, so run on the app host (default: ./uploads)
+#
+# Passwords are hashed with pgcrypto's crypt() (bcrypt, cost 10), which the
+# app's password encoder reads as-is. The extension is created if missing.
+# Run the app once first so Flyway has built the schema and DataLoader has
+# added the admin user, semesters and subjects.
+# ============================================================
+
+set -e
+
+DB_HOST="${DB_HOST:-localhost}"
+DB_PORT="${DB_PORT:-5432}"
+DB_NAME="${DB_NAME:-campus_hub}"
+DB_USER="${DB_USERNAME:-campus_user}"
+
+SEED_USERS="${SEED_USERS:-200}"
+SEED_ROOMS="${SEED_ROOMS:-20}"
+SEED_BOOKINGS="${SEED_BOOKINGS:-5000}"
+SEED_NOTES_PER_SUBJECT="${SEED_NOTES_PER_SUBJECT:-3}"
+LOADTEST_PASSWORD="${LOADTEST_PASSWORD:-loadtest123}"
+UPLOAD_DIR="${UPLOAD_DIR:-./uploads}"
+
+NOTES_DIR="$(mkdir -p "$UPLOAD_DIR/notes" && cd "$UPLOAD_DIR/notes" && pwd)"
+
+echo "=== Campus Study Hub — Load Test Seed ==="
+echo "Host: $DB_HOST:$DB_PORT"
+echo "Database: $DB_NAME"
+echo "Users: $SEED_USERS, rooms: $SEED_ROOMS, bookings: $SEED_BOOKINGS, notes per subject: $SEED_NOTES_PER_SUBJECT"
+echo "Note files: $NOTES_DIR"
+echo ""
+
+# One small PDF per note slot, shared by every subject
+i=1
+while [ "$i" -le "$SEED_NOTES_PER_SUBJECT" ]; do
+  file="$NOTES_DIR/loadtest-note-$i.pdf"
+  if [ ! -f "$file" ]; then
+    {
+      printf '%%PDF-1.4\n'
+      # ~200 KB of filler so downloads move a realistic amount of data
+      head -c 204800 /dev/zero | tr '\0' ' '
+      printf '\n%%%%EOF\n'
+    } > "$file"
+  fi
+  i=$((i + 1))
+done
+
+PGPASSWORD="$DB_PASSWORD" psql -h "$DB_HOST" -p "$DB_PORT" -U "$DB_USER" -d "$DB_NAME" \
+  -v ON_ERROR_STOP=1 \
+  -v users="$SEED_USERS" \
+  -v rooms="$SEED_ROOMS" \
+  -v bookings="$SEED_BOOKINGS" \
+  -v notes="$SEED_NOTES_PER_SUBJECT" \
+  -v password="$LOADTEST_PASSWORD" \
+  -v notes_dir="$NOTES_DIR" <<'SQL'
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+
+-- Users: one hash for all of them, computed once
+INSERT INTO users (full_name, email, password, role, tenant_id)
+SELECT 'Load Test User ' || g, 'loadtest-user-' || g || '@campus.test', h.hash, 'ROLE_STUDENT', 'default'
+FROM generate_series(1, :users) AS g
+CROSS JOIN (SELECT '{bcrypt}' || crypt(:'password', gen_salt('bf', 10)) AS hash) AS h
+ON CONFLICT (email) DO NOTHING;
+
+-- Rooms
+INSERT INTO rooms (name, capacity, resources, building, floor, room_number, tenant_id)
+SELECT 'Load Test Room ' || g, 4 + (g % 5) * 8, 'Whiteboard', 'Load Test Block', (g / 10)::text, 'LT-' || g, 'default'
+FROM generate_series(1, :rooms) AS g
+WHERE NOT EXISTS (SELECT 1 FROM rooms r WHERE r.name = 'Load Test Room ' || g);
+
+-- Bookings: skewed towards the first rooms so a few are heavily contended,
+-- on hourly slots between 08:00 and 20:00 over the next 30 days
+WITH lt_users AS (
+    SELECT id, row_number() OVER (ORDER BY id) AS n FROM users WHERE email LIKE 'loadtest-user-%@campus.test'
+), lt_rooms AS (
+    SELECT id, row_number() OVER (ORDER BY id) AS n FROM rooms WHERE name LIKE 'Load Test Room %'
+), missing AS (
+    SELECT GREATEST(:bookings - (SELECT count(*) FROM bookings WHERE purpose = 'Load test booking'), 0) AS n
+), picks AS (
+    SELECT 1 + floor(random() * (SELECT count(*) FROM lt_users))::int AS user_n,
+           1 + floor(power(random(), 3) * (SELECT count(*) FROM lt_rooms))::int AS room_n,
+           date_trunc('day', now()) + (1 + floor(random() * 30)) * interval '1 day'
+               + (8 + floor(random() * 12)) * interval '1 hour' AS start_at,
+           (1 + floor(random() * 2)) * interval '1 hour' AS length
+    FROM missing, generate_series(1, missing.n)
+)
+INSERT INTO bookings (user_id, room_id, start_at, end_at, status, purpose, tenant_id)
+SELECT u.id, r.id, p.start_at, p.start_at + p.length, 'PENDING', 'Load test booking', 'default'
+FROM picks p
+JOIN lt_users u ON u.n = p.user_n
+JOIN lt_rooms r ON r.n = p.room_n;
+
+-- Approve about a third of the one-hour slots, at most one booking per room
+-- and start time, so new requests and admin approvals run into real conflicts
+UPDATE bookings b SET status = 'APPROVED'
+FROM (
+    SELECT DISTINCT ON (room_id, start_at) id
+    FROM bookings
+    WHERE purpose = 'Load test booking' AND end_at - start_at = interval '1 hour'
+      AND NOT EXISTS (SELECT 1 FROM bookings a
+                      WHERE a.room_id = bookings.room_id AND a.status = 'APPROVED'
+                        AND a.start_at < bookings.end_at AND a.end_at > bookings.start_at)
+    ORDER BY room_id, start_at, id
+) slots
+WHERE b.id = slots.id AND random() < 0.33;
+
+-- Notes: the same files attached to every subject
+INSERT INTO notes (title, original_file_name, stored_file_name, file_path, file_size, uploaded_by, subject_id, tenant_id)
+SELECT 'Load test note ' || g, 'load-test-note-' || g || '.pdf', 'loadtest-note-' || g || '.pdf',
+       :'notes_dir' || '/loadtest-note-' || g || '.pdf', 204819,
+       (SELECT min(id) FROM users WHERE email LIKE 'loadtest-user-%@campus.test'), s.id, 'default'
+FROM subjects s
+CROSS JOIN generate_series(1, :notes) AS g
+WHERE NOT EXISTS (SELECT 1 FROM notes n
+                  WHERE n.subject_id = s.id AND n.stored_file_name = 'loadtest-note-' || g || '.pdf');
+
+SELECT (SELECT count(*) FROM users WHERE email LIKE 'loadtest-user-%@campus.test') AS users,
+       (SELECT count(*) FROM rooms WHERE name LIKE 'Load Test Room %') AS rooms,
+       (SELECT count(*) FROM bookings WHERE purpose = 'Load test booking') AS bookings,
+       (SELECT count(*) FROM bookings WHERE purpose = 'Load test booking' AND status = 'APPROVED') AS approved,
+       (SELECT count(*) FROM notes WHERE stored_file_name LIKE 'loadtest-note-%') AS notes;
+SQL
+
+echo ""
+echo "=== Load test data ready ==="
+echo ""
+echo "Run the workload with:"
+echo "  k6 run -e USERS=$SEED_USERS -e PASSWORD=$LOADTEST_PASSWORD scripts/load-tests/workload.js"
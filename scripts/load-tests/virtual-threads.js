@@ -0,0 +1,80 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+/**
+ * Virtual Thread Comparison
+ *
+ * Drives a fixed arrival rate of authenticated, database-bound API calls so
+ * platform-thread and virtual-thread mode can be compared on the same box.
+ * Run it once per mode against a fresh instance and compare the summaries:
+ *
+ *   VIRTUAL_THREADS_ENABLED=false ./mvnw spring-boot:run
+ *   k6 run -e MODE=platform scripts/load-tests/virtual-threads.js
+ *
+ *   VIRTUAL_THREADS_ENABLED=true ./mvnw spring-boot:run
+ *   k6 run -e MODE=virtual scripts/load-tests/virtual-threads.js
+ *
+ * Rate limiting would cap both runs, so start the app with it switched off:
+ *   --app.ratelimit.rules[0].name=off --app.ratelimit.rules[0].paths=/
+ *   --app.ratelimit.rules[0].capacity=0
+ *
+ * In virtual mode, 503 responses mean the connection guard turned callers
+ * away; watch db_connection_guard_waiting and hikaricp_connections_pending.
+ */
+export const options = {
+    scenarios: {
+        api: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 1000,
+            stages: [
+                { duration: '1m', target: 200 },  // Ramp up
+                { duration: '3m', target: 200 },  // Hold
+                { duration: '1m', target: 400 },  // Push past the platform pool
+                { duration: '2m', target: 400 },  // Hold
+            ],
+        },
+    },
+    thresholds: {
+        http_req_duration: ['p(95)<1000'],
+        http_req_failed: ['rate<0.05'],
+    },
+    tags: { mode: __ENV.MODE || 'unknown' },
+};
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const EMAIL = __ENV.EMAIL || 'admin@campus.com';
+const PASSWORD = __ENV.PASSWORD || 'admin123';
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/v1/auth/token`,
+        JSON.stringify({ email: EMAIL, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'token issued': (r) => r.status === 200 });
+    return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/v1/tasks`, null, params],
+        ['GET', `${BASE_URL}/api/v1/bookings`, null, params],
+    ]);
+
+    responses.forEach((res) => {
+        check(res, { 'is status 200': (r) => r.status === 200 });
+    });
+}
+
+export function handleSummary(data) {
+    const mode = __ENV.MODE || 'unknown';
+    return {
+        [`virtual-threads-${mode}.json`]: JSON.stringify(data, null, 2),
+        stdout: `mode=${mode} reqs/s=${data.metrics.http_reqs.values.rate.toFixed(1)} `
+            + `p95=${data.metrics.http_req_duration.values['p(95)'].toFixed(0)}ms `
+            + `failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`,
+    };
+}
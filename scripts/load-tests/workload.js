@@ -0,0 +1,277 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { parseHTML } from 'k6/html';
+
+/**
+ * Realistic Workload
+ *
+ * Seeded students browse semesters and subjects, search, download notes,
+ * request rooms and manage their tasks while an admin approves pending
+ * bookings. Room choice is skewed so a few popular rooms see real contention:
+ * once a slot is approved, overlapping requests and approvals get a 400,
+ * which counts as an expected outcome rather than a failure.
+ *
+ * Seed the database first, then run:
+ *   ./scripts/load-tests/seed-workload.sh
+ *   k6 run scripts/load-tests/workload.js
+ *
+ * Options (-e NAME=value):
+ *   BASE_URL     application URL (default: http://localhost:8080)
+ *   USERS        seeded users to log in as (default: 200)
+ *   PASSWORD     their password (default: loadtest123)
+ *   RATE         total iterations per second across all flows (default: 50)
+ *   DURATION     how long to hold that rate (default: 5m)
+ *   MIX          flow weights (default:
+ *                browse=40,search=10,download=10,book=15,approve=5,tasks=20)
+ *   ROOM_SKEW    exponent for room choice; higher piles more onto the first
+ *                rooms (default: 3)
+ *   SLO_<name>   "p50,p95,p99" in ms for one endpoint, overriding the
+ *                defaults below, e.g. -e SLO_booking_create=100,400,1000
+ *
+ * Every request carries a name tag, and each name has p50/p95/p99
+ * thresholds that fail the run when missed. Rate limiting caps the run
+ * well below these rates; start the app with it switched off as described
+ * in virtual-threads.js.
+ */
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = parseInt(__ENV.USERS || '200', 10);
+const PASSWORD = __ENV.PASSWORD || 'loadtest123';
+const ADMIN_EMAIL = __ENV.ADMIN_EMAIL || 'admin@campus.com';
+const ADMIN_PASSWORD = __ENV.ADMIN_PASSWORD || 'admin123';
+const RATE = parseFloat(__ENV.RATE || '50');
+const DURATION = __ENV.DURATION || '5m';
+const ROOM_SKEW = parseFloat(__ENV.ROOM_SKEW || '3');
+
+const FLOWS = ['browse', 'search', 'download', 'book', 'approve', 'tasks'];
+const MIX = parseMix(__ENV.MIX || 'browse=40,search=10,download=10,book=15,approve=5,tasks=20');
+
+// Default latency budgets in ms: [p50, p95, p99]
+const SLOS = {
+    login_api: [150, 400, 800],
+    login_form: [150, 400, 800],
+    browse_semesters: [50, 200, 400],
+    browse_semester: [50, 200, 400],
+    browse_subject: [100, 300, 600],
+    search: [100, 400, 800],
+    note_download: [100, 400, 800],
+    booking_create: [100, 400, 800],
+    booking_list: [100, 300, 600],
+    booking_list_all: [200, 800, 1500],
+    booking_approve: [100, 400, 800],
+    task_create: [50, 200, 400],
+    task_status: [50, 200, 400],
+    task_summary: [50, 200, 400],
+    task_delete: [50, 200, 400],
+};
+
+const SEARCH_TERMS = ['data', 'algorithms', 'networks', 'math', 'physics', 'operating', 'database', 'notes', 'exam', 'lab'];
+
+export const options = {
+    scenarios: Object.fromEntries(Object.entries(MIX)
+        .filter(([, weight]) => weight > 0)
+        .map(([flow, weight]) => [flow, {
+            executor: 'constant-arrival-rate',
+            exec: flow,
+            rate: Math.max(1, Math.round(RATE * weight * 10)),
+            timeUnit: '10s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(5, Math.ceil(RATE * weight * 2)),
+            maxVUs: Math.max(20, Math.ceil(RATE * weight * 20)),
+        }])),
+    thresholds: Object.assign(
+        { http_req_failed: ['rate<0.01'] },
+        ...Object.keys(SLOS).map((name) => {
+            const [p50, p95, p99] = (__ENV[`SLO_${name}`] || SLOS[name].join(',')).split(',').map(Number);
+            return { [`http_req_duration{name:${name}}`]: [`p(50)<${p50}`, `p(95)<${p95}`, `p(99)<${p99}`] };
+        })),
+};
+
+function parseMix(spec) {
+    const weights = {};
+    spec.split(',').forEach((pair) => {
+        const [flow, weight] = pair.split('=');
+        if (!FLOWS.includes(flow.trim())) {
+            throw new Error(`Unknown flow in MIX: ${flow}`);
+        }
+        weights[flow.trim()] = parseFloat(weight);
+    });
+    const total = Object.values(weights).reduce((a, b) => a + b, 0);
+    Object.keys(weights).forEach((flow) => { weights[flow] /= total; });
+    return weights;
+}
+
+function pick(items) {
+    return items[Math.floor(Math.random() * items.length)];
+}
+
+function json(body) {
+    return JSON.stringify(body);
+}
+
+function ids(html, pattern) {
+    const found = new Set();
+    let match;
+    while ((match = pattern.exec(html)) !== null) {
+        found.add(parseInt(match[1], 10));
+    }
+    return [...found];
+}
+
+function apiLogin(email, password) {
+    const res = http.post(`${BASE_URL}/api/v1/auth/token`, json({ email, password }),
+        { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login_api' } });
+    check(res, { 'token issued': (r) => r.status === 200 });
+    return res.json('accessToken');
+}
+
+function formLogin(email, password) {
+    const page = http.get(`${BASE_URL}/login`, { tags: { name: 'login_form' } });
+    const csrf = parseHTML(page.body).find('input[name="_csrf"]').attr('value');
+    const res = http.post(`${BASE_URL}/login`, { email, password, _csrf: csrf },
+        { tags: { name: 'login_form' } });
+    check(res, { 'logged in': (r) => r.status === 200 && r.url.endsWith('/dashboard') });
+}
+
+/**
+ * Logs in as the admin once to find the semesters, subjects, notes and rooms
+ * the flows pick from. Seeded rooms are preferred when present.
+ */
+export function setup() {
+    const adminToken = apiLogin(ADMIN_EMAIL, ADMIN_PASSWORD);
+    formLogin(ADMIN_EMAIL, ADMIN_PASSWORD);
+
+    const semesters = ids(http.get(`${BASE_URL}/semesters`).body, /href="\/semesters\/(\d+)"/g);
+    const subjects = [];
+    semesters.forEach((id) => {
+        subjects.push(...ids(http.get(`${BASE_URL}/semesters/${id}`).body, /href="\/subjects\/(\d+)"/g));
+    });
+    const notes = [];
+    subjects.slice(0, 20).forEach((id) => {
+        notes.push(...ids(http.get(`${BASE_URL}/subjects/${id}`).body, /href="\/files\/notes\/(\d+)\/download"/g));
+    });
+
+    const roomOptions = parseHTML(http.get(`${BASE_URL}/bookings/new`).body).find('select[name="roomId"] option');
+    const rooms = [];
+    const seededRooms = [];
+    roomOptions.each((i, el) => {
+        const value = el.getAttribute('value');
+        if (value) {
+            rooms.push(parseInt(value, 10));
+            if (el.textContent().includes('Load Test Room')) {
+                seededRooms.push(parseInt(value, 10));
+            }
+        }
+    });
+
+    if (subjects.length === 0 || rooms.length === 0) {
+        throw new Error('No subjects or rooms found; run the app once and seed-workload.sh first');
+    }
+    return { adminToken, semesters, subjects, notes, rooms: seededRooms.length > 0 ? seededRooms : rooms };
+}
+
+// Per-VU session: each VU is one student with both an API token and a
+// form-login cookie, logged in on its first iteration
+let session = null;
+
+function student() {
+    if (session === null) {
+        const email = `loadtest-user-${((__VU - 1) % USERS) + 1}@campus.test`;
+        session = { token: apiLogin(email, PASSWORD) };
+        formLogin(email, PASSWORD);
+    }
+    return session;
+}
+
+function api(token, name, expected) {
+    const params = {
+        headers: { Authorization: `Bearer ${token}`, 'Content-Type': 'application/json' },
+        tags: { name },
+    };
+    if (expected) {
+        params.responseCallback = http.expectedStatuses(...expected);
+    }
+    return params;
+}
+
+export function browse(data) {
+    student();
+    check(http.get(`${BASE_URL}/semesters`, { tags: { name: 'browse_semesters' } }),
+        { 'semesters ok': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/semesters/${pick(data.semesters)}`, { tags: { name: 'browse_semester' } }),
+        { 'semester ok': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/subjects/${pick(data.subjects)}`, { tags: { name: 'browse_subject' } }),
+        { 'subject ok': (r) => r.status === 200 });
+}
+
+export function search() {
+    student();
+    const res = http.get(`${BASE_URL}/search?query=${encodeURIComponent(pick(SEARCH_TERMS))}`,
+        { tags: { name: 'search' } });
+    check(res, { 'search ok': (r) => r.status === 200 });
+}
+
+export function download(data) {
+    student();
+    if (data.notes.length === 0) {
+        return;
+    }
+    const res = http.get(`${BASE_URL}/files/notes/${pick(data.notes)}/download`,
+        { tags: { name: 'note_download' }, responseType: 'none' });
+    check(res, { 'download ok': (r) => r.status === 200 });
+}
+
+function localDateTime(date) {
+    // The API takes LocalDateTime without an offset
+    return date.toISOString().slice(0, 19);
+}
+
+export function book(data) {
+    const { token } = student();
+    const room = data.rooms[Math.floor(Math.pow(Math.random(), ROOM_SKEW) * data.rooms.length)];
+    const start = new Date();
+    start.setUTCDate(start.getUTCDate() + 1 + Math.floor(Math.random() * 14));
+    start.setUTCHours(8 + Math.floor(Math.random() * 12), 0, 0, 0);
+    const end = new Date(start.getTime() + (1 + Math.floor(Math.random() * 2)) * 3600 * 1000);
+
+    const res = http.post(`${BASE_URL}/api/v1/bookings`,
+        json({ roomId: room, startAt: localDateTime(start), endAt: localDateTime(end), purpose: 'Load test booking' }),
+        api(token, 'booking_create', [201, 400]));
+    check(res, { 'booking created or slot taken': (r) => r.status === 201 || r.status === 400 });
+
+    check(http.get(`${BASE_URL}/api/v1/bookings`, api(token, 'booking_list')),
+        { 'bookings listed': (r) => r.status === 200 });
+}
+
+export function approve(data) {
+    const list = http.get(`${BASE_URL}/api/v1/bookings`, api(data.adminToken, 'booking_list_all'));
+    check(list, { 'all bookings listed': (r) => r.status === 200 });
+    const pending = (list.json() || []).filter((b) => b.status === 'PENDING');
+    if (pending.length === 0) {
+        return;
+    }
+    const res = http.put(`${BASE_URL}/api/v1/bookings/${pick(pending).id}/approve`, null,
+        api(data.adminToken, 'booking_approve', [200, 400]));
+    check(res, { 'approved or conflicting': (r) => r.status === 200 || r.status === 400 });
+}
+
+export function tasks() {
+    const { token } = student();
+    const due = new Date(Date.now() + (1 + Math.floor(Math.random() * 14)) * 86400 * 1000);
+    const created = http.post(`${BASE_URL}/api/v1/tasks`,
+        json({ title: 'Load test task', description: 'Revise chapter', dueDate: localDateTime(due),
+            priority: pick(['LOW', 'MEDIUM', 'HIGH']) }),
+        api(token, 'task_create'));
+    check(created, { 'task created': (r) => r.status === 200 });
+    const id = created.json('id');
+
+    check(http.patch(`${BASE_URL}/api/v1/tasks/${id}/status?status=IN_PROGRESS`, null, api(token, 'task_status')),
+        { 'task updated': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/api/v1/tasks/summary`, api(token, 'task_summary')),
+        { 'summary ok': (r) => r.status === 200 });
+
+    // Keep about half the tasks so task lists and summaries grow over the run
+    if (Math.random() < 0.5) {
+        check(http.del(`${BASE_URL}/api/v1/tasks/${id}`, null, api(token, 'task_delete')),
+            { 'task deleted': (r) => r.status === 200 || r.status === 204 });
+    }
+}
@@ -0,0 +1,110 @@
+#!/bin/sh
+# ============================================================
+# Campus Study Hub — JVM vs Native Image Smoke Test
+# ============================================================
+# Builds the JVM and native Docker images, starts each against a fresh
+# PostgreSQL database, checks that it serves a login page, issues an API
+# token and answers an authenticated API call, then prints time to
+# readiness and container memory for both.
+#
+# Usage:
+#   ./scripts/native-smoke-test.sh
+#   SKIP_BUILD=1 ./scripts/native-smoke-test.sh   # reuse campus-hub:jvm / campus-hub:native
+#
+# Prerequisites:
+#   - Docker, curl and jq
+#   - A Linux host (timing uses date +%s%N)
+#   - Port 18080 available
+# ============================================================
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+PROJECT_DIR="$(cd "$SCRIPT_DIR/.." && pwd)"
+NETWORK=campus-smoke
+DB=campus-smoke-db
+PORT=18080
+TIMEOUT=180
+RESULTS="$(mktemp)"
+
+cleanup() {
+    docker rm -f campus-smoke-jvm campus-smoke-native "$DB" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+    rm -f "$RESULTS"
+}
+trap cleanup EXIT
+
+if [ -z "$SKIP_BUILD" ]; then
+    echo "🔨 Building JVM image..."
+    docker build --target jvm -t campus-hub:jvm "$PROJECT_DIR"
+    echo "🔨 Building native image (this takes several minutes)..."
+    docker build --target native -t campus-hub:native "$PROJECT_DIR"
+fi
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+    -e POSTGRES_USER=campus_user -e POSTGRES_PASSWORD=campus_password -e POSTGRES_DB=postgres \
+    postgres:16-alpine >/dev/null
+until docker exec "$DB" pg_isready -U campus_user >/dev/null 2>&1; do
+    sleep 1
+done
+
+# Run one image from an empty database and record its numbers
+run() {
+    VARIANT="$1"
+    NAME="campus-smoke-$VARIANT"
+    BASE="http://localhost:$PORT"
+
+    docker exec "$DB" psql -q -U campus_user -d postgres \
+        -c "DROP DATABASE IF EXISTS campus_hub" -c "CREATE DATABASE campus_hub"
+
+    echo ""
+    echo "🚀 Starting $VARIANT image..."
+    START=$(date +%s%N)
+    docker run -d --name "$NAME" --network "$NETWORK" -p "$PORT:8080" \
+        -e DATABASE_URL="jdbc:postgresql://$DB:5432/campus_hub" \
+        -e DB_USERNAME=campus_user -e DB_PASSWORD=campus_password \
+        -e APP_ADMIN_EMAIL=admin@campus.com -e APP_ADMIN_PASSWORD=admin123 \
+        "campus-hub:$VARIANT" >/dev/null
+
+    until curl -sf "$BASE/actuator/health/readiness" 2>/dev/null | grep -q '"UP"'; do
+        if [ $(( ($(date +%s%N) - START) / 1000000000 )) -ge "$TIMEOUT" ]; then
+            echo "❌ $VARIANT was not ready after ${TIMEOUT}s" >&2
+            docker logs --tail 50 "$NAME" >&2
+            exit 1
+        fi
+        sleep 0.1
+    done
+    READY_MS=$(( ($(date +%s%N) - START) / 1000000 ))
+    echo "   ready in ${READY_MS} ms"
+
+    # Seeding may still be running; wait for the admin account
+    TOKEN=""
+    for _ in $(seq 1 60); do
+        TOKEN=$(curl -s -X POST "$BASE/api/v1/auth/token" -H 'Content-Type: application/json' \
+            -d '{"email":"admin@campus.com","password":"admin123"}' | jq -r '.accessToken // empty' 2>/dev/null || true)
+        [ -n "$TOKEN" ] && break
+        sleep 1
+    done
+    [ -n "$TOKEN" ] || { echo "❌ $VARIANT: could not get an API token" >&2; docker logs --tail 50 "$NAME" >&2; exit 1; }
+
+    curl -sf -o /dev/null "$BASE/login" || { echo "❌ $VARIANT: /login failed" >&2; exit 1; }
+    curl -sf -o /dev/null -H "Authorization: Bearer $TOKEN" "$BASE/api/v1/tasks" \
+        || { echo "❌ $VARIANT: /api/v1/tasks failed" >&2; docker logs --tail 50 "$NAME" >&2; exit 1; }
+    echo "   ✅ login page, token and API call OK"
+
+    MEMORY=$(docker stats --no-stream --format '{{.MemUsage}}' "$NAME" | cut -d/ -f1 | tr -d ' ')
+    SIZE=$(docker image inspect --format '{{.Size}}' "campus-hub:$VARIANT")
+    echo "$VARIANT $READY_MS $MEMORY $(( SIZE / 1048576 ))MiB" >> "$RESULTS"
+
+    docker rm -f "$NAME" >/dev/null
+}
+
+run jvm
+run native
+
+echo ""
+printf '%-8s %12s %12s %12s\n' "image" "ready (ms)" "memory" "image size"
+while read -r VARIANT READY_MS MEMORY SIZE; do
+    printf '%-8s %12s %12s %12s\n' "$VARIANT" "$READY_MS" "$MEMORY" "$SIZE"
+done < "$RESULTS"
@@ -0,0 +1,54 @@
+package com.campusstudyhub.benchmark;
+
+import com.campusstudyhub.entity.AnalyticsEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of {@link AnalyticsEvent} payloads to the JSON stored in
+ * {@code analytics_events.payload}. Hibernate writes that column through a
+ * Jackson {@code ObjectMapper} with the modules on the classpath, configured
+ * the same way here; {@code readPayload} is the reverse, as when events are
+ * loaded for reporting.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticsSerializationBenchmark {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD = new TypeReference<>() {
+    };
+
+    @Param({ "booking_create", "resource_upload" })
+    public String eventType;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AnalyticsEvent event;
+    private String json;
+
+    @Setup
+    public void setUp() throws Exception {
+        Map<String, Object> payload = "booking_create".equals(eventType)
+                ? Map.of("bookingId", 1042L, "roomId", 3L, "roomName", "Room 101")
+                : Map.of("type", "note", "id", 581L, "title", "Lecture 7 - Graph traversal", "subjectId", 12L);
+        event = new AnalyticsEvent(eventType, payload, "student@campus.com");
+        json = objectMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public String writePayload() throws Exception {
+        return objectMapper.writeValueAsString(event.getPayload());
+    }
+
+    @Benchmark
+    public Map<String, Object> readPayload() throws Exception {
+        return objectMapper.readValue(json, PAYLOAD);
+    }
+}
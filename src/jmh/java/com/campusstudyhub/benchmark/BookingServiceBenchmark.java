@@ -0,0 +1,108 @@
+package com.campusstudyhub.benchmark;
+
+import com.campusstudyhub.dto.BookingRequest;
+import com.campusstudyhub.dto.BookingResponse;
+import com.campusstudyhub.entity.Booking;
+import com.campusstudyhub.entity.Room;
+import com.campusstudyhub.repository.AnalyticsRepository;
+import com.campusstudyhub.repository.BookingRepository;
+import com.campusstudyhub.repository.RoomRepository;
+import com.campusstudyhub.repository.UserRepository;
+import com.campusstudyhub.security.AuthenticatedUser;
+import com.campusstudyhub.service.AnalyticsService;
+import com.campusstudyhub.service.BookingService;
+import com.campusstudyhub.service.NotificationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BookingService} without the database: the overlap check run by
+ * {@code requestBooking} (over {@code approvedBookings} approved bookings
+ * of the same room, filtered with the repository query's predicate) and
+ * the entity-to-DTO mapping behind {@code listByUser}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingServiceBenchmark {
+
+    @Param({ "10", "1000" })
+    public int approvedBookings;
+
+    private BookingService bookingService;
+    private AuthenticatedUser student;
+    private BookingRequest request;
+
+    @Setup
+    public void setUp() {
+        Room room = new Room("Room 101", 30, "Main Block", "1", "101");
+        room.setId(1L);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 5, 8, 0);
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < approvedBookings; i++) {
+            Booking booking = new Booking();
+            booking.setId((long) i);
+            booking.setUserId(7L);
+            booking.setRoom(room);
+            booking.setStartAt(start.plusHours(2L * i));
+            booking.setEndAt(start.plusHours(2L * i + 1));
+            booking.setStatus("APPROVED");
+            booking.setPurpose("Group study");
+            bookings.add(booking);
+        }
+
+        BookingRepository bookingRepository = InMemoryRepository.of(BookingRepository.class, Map.of(
+                "findOverlappingApprovedBookings", args -> bookings.stream()
+                        .filter(b -> b.getRoom().getId().equals(args[0]))
+                        .filter(b -> "APPROVED".equals(b.getStatus()))
+                        .filter(b -> b.getStartAt().isBefore((LocalDateTime) args[2])
+                                && b.getEndAt().isAfter((LocalDateTime) args[1]))
+                        .toList(),
+                "save", args -> {
+                    Booking booking = (Booking) args[0];
+                    booking.setId(-1L);
+                    return booking;
+                },
+                "findByUserId", args -> bookings));
+        RoomRepository roomRepository = InMemoryRepository.of(RoomRepository.class, Map.of(
+                "findById", args -> Optional.of(room)));
+        AnalyticsRepository analyticsRepository = InMemoryRepository.of(AnalyticsRepository.class, Map.of(
+                "save", args -> args[0]));
+        NotificationService notifications = InMemoryRepository.of(NotificationService.class, Map.of(
+                "sendToUser", args -> null,
+                "sendNotification", args -> null));
+
+        bookingService = new BookingService(bookingRepository, roomRepository,
+                InMemoryRepository.of(UserRepository.class, Map.of()), notifications,
+                new AnalyticsService(analyticsRepository), event -> {
+                });
+        student = new AuthenticatedUser(7L, "student@campus.com", "Test Student", "ROLE_STUDENT", "default", "hash");
+
+        // A free slot after every existing booking, so the request passes the check
+        request = new BookingRequest();
+        request.setRoomId(1L);
+        request.setStartAt(start.plusHours(2L * approvedBookings));
+        request.setEndAt(start.plusHours(2L * approvedBookings + 2));
+        request.setPurpose("Exam revision");
+    }
+
+    @Benchmark
+    public BookingResponse requestBooking() {
+        return bookingService.requestBooking(request, student);
+    }
+
+    @Benchmark
+    public List<BookingResponse> listByUser() {
+        return bookingService.listByUser(student);
+    }
+}
@@ -0,0 +1,133 @@
+package com.campusstudyhub.benchmark;
+
+import com.campusstudyhub.entity.AnalyticsEvent;
+import com.campusstudyhub.entity.Booking;
+import com.campusstudyhub.entity.Room;
+import com.campusstudyhub.security.TenantIdentifierResolver;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput for {@link AnalyticsEvent} and {@link Booking} through
+ * Hibernate, in rows per second.
+ *
+ * {@code identity} remaps the entities to the old IDENTITY columns, which
+ * force one round trip per insert whatever the batch size; {@code sequence}
+ * uses the pooled sequences the entities declare now. Runs against in-memory
+ * H2, so absolute numbers are optimistic; the gap widens with real network
+ * latency to PostgreSQL.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityInsertBenchmark {
+
+    private static final int ROWS = 200;
+
+    private static final String IDENTITY_MAPPING = """
+            <entity-mappings xmlns="https://jakarta.ee/xml/ns/persistence/orm" version="3.1">
+                <entity class="com.campusstudyhub.entity.AnalyticsEvent" metadata-complete="false">
+                    <attributes><id name="id"><generated-value strategy="IDENTITY"/></id></attributes>
+                </entity>
+                <entity class="com.campusstudyhub.entity.Booking" metadata-complete="false">
+                    <attributes><id name="id"><generated-value strategy="IDENTITY"/></id></attributes>
+                </entity>
+            </entity-mappings>
+            """;
+
+    @Param({ "identity", "sequence" })
+    public String ids;
+
+    @Param({ "1", "50" })
+    public int batchSize;
+
+    private SessionFactory sessionFactory;
+    private Room room;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(AnalyticsEvent.class)
+                .addAnnotatedClass(Booking.class)
+                .addAnnotatedClass(Room.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insert-" + ids + "-" + batchSize
+                        + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE TYPE IF NOT EXISTS JSONB AS TEXT")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        configuration.setCurrentTenantIdentifierResolver(new TenantIdentifierResolver());
+        if ("identity".equals(ids)) {
+            configuration.addInputStream(new ByteArrayInputStream(IDENTITY_MAPPING.getBytes(StandardCharsets.UTF_8)));
+        }
+        sessionFactory = configuration.buildSessionFactory();
+
+        room = sessionFactory.fromTransaction(session -> {
+            Room r = new Room("Room 101", 30, "Main Block", "1", "101");
+            session.persist(r);
+            return r;
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearRows() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from AnalyticsEvent").executeUpdate();
+            session.createMutationQuery("delete from Booking").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertAnalyticsEvents() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new AnalyticsEvent("booking_create", Map.of("roomId", i), "user" + i));
+                flushEveryBatch(session, i);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertBookings() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        sessionFactory.inTransaction(session -> {
+            Room managed = session.getReference(Room.class, room.getId());
+            for (int i = 0; i < ROWS; i++) {
+                Booking booking = new Booking();
+                booking.setUserId((long) i);
+                booking.setRoom(managed);
+                booking.setStartAt(start.plusHours(i));
+                booking.setEndAt(start.plusHours(i).plusMinutes(50));
+                session.persist(booking);
+                flushEveryBatch(session, i);
+            }
+        });
+    }
+
+    private void flushEveryBatch(Session session, int i) {
+        if ((i + 1) % Math.max(batchSize, 50) == 0) {
+            session.flush();
+            session.clear();
+        }
+    }
+}
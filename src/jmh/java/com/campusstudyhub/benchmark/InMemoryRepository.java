@@ -0,0 +1,35 @@
+package com.campusstudyhub.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Stands in for a Spring Data repository in benchmarks, so a service's own
+ * code is measured without a database or mocking framework in the way.
+ * Only the methods given are implemented; any other call fails loudly.
+ */
+final class InMemoryRepository {
+
+    private InMemoryRepository() {
+    }
+
+    static <R> R of(Class<R> type, Map<String, Function<Object[], Object>> methods) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (self, method, args) -> {
+                    Function<Object[], Object> implementation = methods.get(method.getName());
+                    if (implementation != null) {
+                        return implementation.apply(args);
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(self);
+                            case "equals" -> self == args[0];
+                            default -> type.getSimpleName() + " (in memory)";
+                        };
+                    }
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                });
+        return type.cast(proxy);
+    }
+}
@@ -0,0 +1,106 @@
+package com.campusstudyhub.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost to the calling thread of one INFO line in the file appender's
+ * format, written either directly ({@code sync}) or through the bounded,
+ * non-blocking {@link AsyncAppender} set up in {@code logback-spring.xml}
+ * ({@code async}). Output goes to a null stream, so this measures
+ * formatting and locking rather than disk. With {@code async}, events the
+ * worker cannot keep up with are dropped, which is the point: callers
+ * never wait. {@code disabledDebug} is the guarded cost of a DEBUG call
+ * with the logger at INFO.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%t] [%X{requestId:-}] "
+            + "[%X{traceId:-},%X{spanId:-}] %-40.40logger{39} : %m%n%ex";
+
+    @Param({ "sync", "async" })
+    public String appender;
+
+    private LoggerContext context;
+    private Logger logger;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> target = output;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(8192 / 5);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(output);
+            async.start();
+            target = async;
+        }
+
+        logger = context.getLogger("com.campusstudyhub.service.BookingService");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(target);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    /**
+     * Each benchmark thread logs with a request ID in its MDC, as request
+     * threads do.
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            MDC.put("requestId", "3f1c2a9e-5b7d-4e61-9a0c-2d8e7f6b1a43");
+        }
+    }
+
+    @Benchmark
+    public void info(RequestThread thread) {
+        logger.info("Booking {} created by user {} for room {}", 42L, "student@campus.com", "Room 101");
+    }
+
+    @Benchmark
+    public void disabledDebug(RequestThread thread) {
+        logger.debug("Booking {} created by user {} for room {}", 42L, "student@campus.com", "Room 101");
+    }
+}
@@ -0,0 +1,71 @@
+package com.campusstudyhub.benchmark;
+
+import com.campusstudyhub.security.BoundedPasswordEncoder;
+import com.campusstudyhub.security.PasswordEncoders;
+import com.campusstudyhub.security.PasswordHashingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the supported password encoders, to pick an algorithm and cost for
+ * {@code app.security.password.*}. Aim for roughly 100-300 ms per hash on
+ * production hardware; the pool size then bounds logins per second.
+ *
+ * The {@code bounded} variants measure the hand-off to the hashing pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    @Param({ "bcrypt-10", "bcrypt-12", "pbkdf2-310000", "pbkdf2-600000" })
+    public String encoder;
+
+    private PasswordEncoder direct;
+    private BoundedPasswordEncoder bounded;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        String[] parts = encoder.split("-");
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setAlgorithm(parts[0]);
+        if (PasswordEncoders.BCRYPT.equals(parts[0])) {
+            properties.setBcryptStrength(Integer.parseInt(parts[1]));
+        } else {
+            properties.setPbkdf2Iterations(Integer.parseInt(parts[1]));
+        }
+
+        direct = PasswordEncoders.create(properties);
+        bounded = new BoundedPasswordEncoder(direct, Runtime.getRuntime().availableProcessors(), 64,
+                Duration.ofSeconds(30), new SimpleMeterRegistry());
+        hash = direct.encode("correct horse battery staple");
+    }
+
+    @TearDown
+    public void tearDown() {
+        bounded.destroy();
+    }
+
+    @Benchmark
+    public String encode() {
+        return direct.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return direct.matches("correct horse battery staple", hash);
+    }
+
+    @Benchmark
+    public boolean boundedMatches() {
+        return bounded.matches("correct horse battery staple", hash);
+    }
+}
@@ -0,0 +1,64 @@
+package com.campusstudyhub.benchmark;
+
+import com.campusstudyhub.security.DistributedRateLimiter;
+import com.campusstudyhub.security.RateLimitProperties;
+import com.campusstudyhub.security.RateLimitingFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RateLimitingFilter#doFilter} with local buckets: rule resolution,
+ * client key building and the bucket lookup, cycling over {@code clients}
+ * distinct addresses so the bucket map holds that many entries. Limits are
+ * set high enough that every request is allowed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitingFilterBenchmark {
+
+    @Param({ "1", "10000" })
+    public int clients;
+
+    private RateLimitingFilter filter;
+    private MockHttpServletRequest[] requests;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain chain = (req, res) -> {
+    };
+    private int next;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(
+                new RateLimitProperties.Rule("auth", 1_000_000_000_000L, "/login", "/register", "/api/v1/auth/"),
+                new RateLimitProperties.Rule("api", 1_000_000_000_000L, "/api/"),
+                new RateLimitProperties.Rule("general", 1_000_000_000_000L, "/")));
+        filter = new RateLimitingFilter(properties, new SimpleMeterRegistry(),
+                new StaticListableBeanFactory().getBeanProvider(DistributedRateLimiter.class));
+
+        requests = new MockHttpServletRequest[clients];
+        for (int i = 0; i < clients; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+            request.setRemoteAddr("10." + (i >> 16 & 255) + "." + (i >> 8 & 255) + "." + (i & 255));
+            requests[i] = request;
+        }
+    }
+
+    @Benchmark
+    public void doFilter() throws Exception {
+        MockHttpServletRequest request = requests[next];
+        next = next + 1 == clients ? 0 : next + 1;
+        filter.doFilter(request, response, chain);
+    }
+}
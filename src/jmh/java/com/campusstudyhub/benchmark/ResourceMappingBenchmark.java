@@ -0,0 +1,98 @@
+package com.campusstudyhub.benchmark;
+
+import com.campusstudyhub.dto.NoteDto;
+import com.campusstudyhub.dto.QuestionPaperDto;
+import com.campusstudyhub.dto.VideoLinkDto;
+import com.campusstudyhub.entity.*;
+import com.campusstudyhub.repository.*;
+import com.campusstudyhub.service.ResourceService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping in {@link ResourceService} for a subject page with
+ * {@code resources} notes, papers and videos each, from in-memory lists.
+ * Video mapping includes parsing the YouTube URL for the embed link.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceMappingBenchmark {
+
+    @Param({ "20", "200" })
+    public int resources;
+
+    private ResourceService resourceService;
+
+    @Setup
+    public void setUp() {
+        User uploader = new User("Test Student", "student@campus.com", "hash", "ROLE_STUDENT");
+        uploader.setId(7L);
+        Subject subject = new Subject("Data Structures", "CS201", "Lists, trees and graphs", null);
+        subject.setId(1L);
+        LocalDateTime now = LocalDateTime.of(2026, 1, 5, 8, 0);
+
+        List<Note> notes = new ArrayList<>();
+        List<QuestionPaper> papers = new ArrayList<>();
+        List<VideoLink> videos = new ArrayList<>();
+        for (int i = 0; i < resources; i++) {
+            Note note = new Note("Lecture " + i, "lecture-" + i + ".pdf", "stored-" + i + ".pdf",
+                    "uploads/notes/stored-" + i + ".pdf", 250_000L + i, uploader, subject);
+            note.setId((long) i);
+            note.setUploadedAt(now.minusHours(i));
+            notes.add(note);
+
+            QuestionPaper paper = new QuestionPaper();
+            paper.setId((long) i);
+            paper.setTitle("End semester " + (2000 + i));
+            paper.setYear(2000 + i);
+            paper.setOriginalFileName("paper-" + i + ".pdf");
+            paper.setFileSize(400_000L + i);
+            paper.setUploadedAt(now.minusDays(i));
+            paper.setUploadedBy(uploader);
+            paper.setSubject(subject);
+            papers.add(paper);
+
+            VideoLink video = new VideoLink("Walkthrough " + i,
+                    "https://www.youtube.com/watch?v=dQw4w9WgX" + (i % 10) + "&t=42s", subject, uploader);
+            video.setId((long) i);
+            video.setThumbnailUrl("https://img.youtube.com/vi/dQw4w9WgX" + (i % 10) + "/hqdefault.jpg");
+            videos.add(video);
+        }
+
+        resourceService = new ResourceService(
+                InMemoryRepository.of(NoteRepository.class, Map.of(
+                        "findBySubjectIdOrderByUploadedAtDesc", args -> notes)),
+                InMemoryRepository.of(QuestionPaperRepository.class, Map.of(
+                        "findBySubjectIdOrderByYearDesc", args -> papers)),
+                InMemoryRepository.of(VideoLinkRepository.class, Map.of(
+                        "findBySubjectIdOrderByAddedAtDesc", args -> videos)),
+                InMemoryRepository.of(SubjectRepository.class, Map.of()),
+                InMemoryRepository.of(UserRepository.class, Map.of()),
+                null,
+                null);
+    }
+
+    @Benchmark
+    public List<NoteDto> listNotes() {
+        return resourceService.listNotesBySubject(1L);
+    }
+
+    @Benchmark
+    public List<QuestionPaperDto> listPapers() {
+        return resourceService.listPapersBySubject(1L);
+    }
+
+    @Benchmark
+    public List<VideoLinkDto> listVideos() {
+        return resourceService.listVideosBySubject(1L);
+    }
+}
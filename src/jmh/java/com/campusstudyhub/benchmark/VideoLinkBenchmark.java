@@ -0,0 +1,39 @@
+package com.campusstudyhub.benchmark;
+
+import com.campusstudyhub.entity.VideoLink;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YouTube video ID parsing behind {@link VideoLink#getEmbedUrl()}, for each
+ * URL form users paste, plus one URL that is not a video link.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VideoLinkBenchmark {
+
+    @Param({
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ&list=PL123&t=42s",
+            "https://youtu.be/dQw4w9WgXcQ?t=42",
+            "https://www.youtube.com/embed/dQw4w9WgXcQ?start=42",
+            "https://vimeo.com/76979871"
+    })
+    public String url;
+
+    private VideoLink video;
+
+    @Setup
+    public void setUp() {
+        video = new VideoLink("Walkthrough", url, null, null);
+    }
+
+    @Benchmark
+    public String embedUrl() {
+        return video.getEmbedUrl();
+    }
+}
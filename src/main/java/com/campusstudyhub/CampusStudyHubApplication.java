@@ -1,16 +1,23 @@
 package com.campusstudyhub;
 
+import com.campusstudyhub.repository.TenantAwareRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 /**
  * Main entry point for the Campus Study Hub application.
  * A web platform for CSE students to access academic resources.
  */
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = TenantAwareRepository.class)
 public class CampusStudyHubApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(CampusStudyHubApplication.class, args);
+        SpringApplication application = new SpringApplication(CampusStudyHubApplication.class);
+        // Keep the startup steps for /actuator/startup
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 }
@@ -0,0 +1,46 @@
+package com.campusstudyhub;
+
+import com.campusstudyhub.config.StartupTasks;
+import com.campusstudyhub.service.SubjectService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the semester and subject catalog once after startup. With lazy
+ * initialization this creates the services, repositories and pooled
+ * connections behind the catalog pages, and prepares their queries, before
+ * the first student asks for them.
+ *
+ * Runs after {@link DataLoader} through {@link StartupTasks}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.startup.warm-up", havingValue = "true")
+public class CatalogWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogWarmup.class);
+
+    private final SubjectService subjectService;
+    private final StartupTasks startupTasks;
+
+    public CatalogWarmup(SubjectService subjectService, StartupTasks startupTasks) {
+        this.subjectService = subjectService;
+        this.startupTasks = startupTasks;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void onApplicationReady() {
+        startupTasks.run("Catalog warm-up", this::warmUp);
+    }
+
+    private void warmUp() {
+        int semesters = subjectService.getAllSemesters().size();
+        int subjects = subjectService.listAllSubjects().size();
+        log.debug("Catalog warmed up: {} semesters, {} subjects", semesters, subjects);
+    }
+}
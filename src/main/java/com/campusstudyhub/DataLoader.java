@@ -1,5 +1,6 @@
 package com.campusstudyhub;
 
+import com.campusstudyhub.config.StartupTasks;
 import com.campusstudyhub.entity.Room;
 import com.campusstudyhub.entity.Semester;
 import com.campusstudyhub.entity.Subject;
@@ -16,8 +17,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Data loader to seed initial data on application startup.
@@ -40,6 +43,8 @@ public class DataLoader {
     private final VideoLinkRepository videoLinkRepository;
     private final RoomRepository roomRepository;
     private final UserService userService;
+    private final StartupTasks startupTasks;
+    private final TransactionTemplate transactionTemplate;
 
     // Admin configuration from properties
     @Value("${app.admin.email:admin@campus.com}")
@@ -55,22 +60,33 @@ public class DataLoader {
             SubjectRepository subjectRepository,
             VideoLinkRepository videoLinkRepository,
             RoomRepository roomRepository,
-            UserService userService) {
+            UserService userService,
+            StartupTasks startupTasks,
+            PlatformTransactionManager transactionManager) {
         this.semesterRepository = semesterRepository;
         this.subjectRepository = subjectRepository;
         this.videoLinkRepository = videoLinkRepository;
         this.roomRepository = roomRepository;
         this.userService = userService;
+        this.startupTasks = startupTasks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Runs after the application is fully ready (schema created, beans
      * initialized).
      * This ensures Hibernate has created all tables before we try to access them.
+     * Ordered ahead of {@link SyntheticDataGenerator}, which needs the semesters.
+     * Runs through {@link StartupTasks}, so with deferred initialization the
+     * seeding happens after the instance reports ready.
      */
     @EventListener(ApplicationReadyEvent.class)
-    @Transactional
+    @Order(0)
     public void onApplicationReady() {
+        startupTasks.run("Data seeding", () -> transactionTemplate.executeWithoutResult(status -> seed()));
+    }
+
+    private void seed() {
         log.info("Starting data seeding (ApplicationReadyEvent)...");
 
         // Create admin user using configured credentials
@@ -0,0 +1,371 @@
+package com.campusstudyhub;
+
+import com.campusstudyhub.config.StartupTasks;
+import com.campusstudyhub.config.SyntheticDataProperties;
+import com.campusstudyhub.util.ZipfDistribution;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk-loads a production-sized synthetic dataset when
+ * {@code app.dataloader.synthetic.enabled=true}, after {@link DataLoader} has
+ * created the admin user and semesters. Sizes come from
+ * {@link SyntheticDataProperties}.
+ *
+ * Each table is split into chunks that worker threads generate and insert
+ * in parallel, one connection and one transaction per chunk, through JDBC
+ * batches on a pool of its own. On PostgreSQL the pool sets
+ * {@code reWriteBatchedInserts}, so every batch goes out as one multi-row
+ * INSERT. Every chunk seeds its own random generator from the table and
+ * chunk number, so the same settings give the same data.
+ *
+ * The run is skipped when synthetic users already exist. Notes and papers
+ * point to files that are not created, so downloading them fails.
+ */
+@Component
+@ConditionalOnProperty(name = "app.dataloader.synthetic.enabled", havingValue = "true")
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String EMAIL_PREFIX = "synthetic-";
+    private static final String EMAIL_DOMAIN = "@campus.test";
+    private static final String ROOM_PREFIX = "Synthetic Room ";
+
+    // Repeated entries weight the draw
+    private static final String[] BOOKING_STATUSES = { "APPROVED", "APPROVED", "APPROVED", "PENDING", "PENDING",
+            "REJECTED", "CANCELLED" };
+    private static final String[] TASK_STATUSES = { "TODO", "IN_PROGRESS", "DONE" };
+    private static final String[] TASK_PRIORITIES = { "LOW", "MEDIUM", "MEDIUM", "HIGH" };
+    private static final String[] EVENT_TYPES = { "booking_create", "booking_create", "booking_approve",
+            "booking_reject", "resource_upload", "study_task_create", "study_task_create",
+            "study_task_status_change", "study_task_status_change", "study_task_status_change" };
+
+    private final SyntheticDataProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final PasswordEncoder passwordEncoder;
+    private final StartupTasks startupTasks;
+
+    public SyntheticDataGenerator(SyntheticDataProperties properties,
+            DataSourceProperties dataSourceProperties,
+            PasswordEncoder passwordEncoder,
+            StartupTasks startupTasks) {
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+        this.passwordEncoder = passwordEncoder;
+        this.startupTasks = startupTasks;
+    }
+
+    /**
+     * Runs after {@link DataLoader#onApplicationReady()} has committed; both go
+     * through {@link StartupTasks}, which keeps them in order when deferred.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        startupTasks.run("Synthetic data generation", this::populate);
+    }
+
+    private void populate() {
+        if (properties.getUsers() < properties.getTenants() || properties.getRooms() < properties.getTenants()) {
+            throw new IllegalArgumentException("Synthetic data needs at least one user and one room per tenant");
+        }
+        int threads = properties.getThreads() > 0 ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        try (HikariDataSource pool = createPool(threads)) {
+            JdbcTemplate jdbc = new JdbcTemplate(pool);
+            Long existing = jdbc.queryForObject("SELECT count(*) FROM users WHERE email LIKE ?", Long.class,
+                    EMAIL_PREFIX + "%" + EMAIL_DOMAIN);
+            if (existing != null && existing > 0) {
+                log.info("Synthetic data already present ({} users), skipping generation.", existing);
+                return;
+            }
+
+            log.info("Generating synthetic data with {} threads...", threads);
+            long started = System.nanoTime();
+            ExecutorService workers = Executors.newFixedThreadPool(threads,
+                    Thread.ofPlatform().name("synthetic-", 0).factory());
+            try {
+                generate(pool, jdbc, workers);
+            } finally {
+                workers.shutdownNow();
+            }
+            log.info("Synthetic data generated in {} s", (System.nanoTime() - started) / 1_000_000_000);
+        }
+    }
+
+    private void generate(DataSource pool, JdbcTemplate jdbc, ExecutorService workers) {
+        List<String> tenants = new ArrayList<>();
+        tenants.add("default");
+        for (int i = 2; i <= properties.getTenants(); i++) {
+            tenants.add("synthetic-" + i);
+        }
+        int tenantCount = tenants.size();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        double exponent = properties.getZipfExponent();
+
+        String passwordHash = passwordEncoder.encode(properties.getPassword());
+        load(pool, workers, "users", properties.getUsers(),
+                "INSERT INTO users (full_name, email, password, role, tenant_id, created_at) "
+                        + "VALUES (?, ?, ?, 'ROLE_STUDENT', ?, ?)",
+                (ps, row, random) -> {
+                    ps.setString(1, "Synthetic User " + row);
+                    ps.setString(2, EMAIL_PREFIX + row + EMAIL_DOMAIN);
+                    ps.setString(3, passwordHash);
+                    ps.setString(4, tenants.get((int) (row % tenantCount)));
+                    ps.setTimestamp(5, Timestamp.valueOf(now.minusMinutes(random.nextLong(365L * 24 * 60))));
+                });
+
+        List<Long> semesters = jdbc.queryForList("SELECT id FROM semesters ORDER BY number", Long.class);
+        if (semesters.isEmpty()) {
+            throw new IllegalStateException("Synthetic subjects need semesters; enable app.dataloader.enabled");
+        }
+        load(pool, workers, "subjects", properties.getSubjects(),
+                "INSERT INTO subjects (name, code, description, semester_id) VALUES (?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    ps.setString(1, "Synthetic Subject " + row);
+                    ps.setString(2, "SYN" + row);
+                    ps.setString(3, "Generated subject " + row);
+                    ps.setLong(4, semesters.get((int) (row % semesters.size())));
+                });
+
+        load(pool, workers, "rooms", properties.getRooms(),
+                "INSERT INTO rooms (name, capacity, resources, building, floor, room_number, tenant_id, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    ps.setString(1, ROOM_PREFIX + row);
+                    ps.setInt(2, 4 + random.nextInt(60));
+                    ps.setString(3, random.nextBoolean() ? "{\"projector\":true,\"whiteboard\":true}"
+                            : "{\"whiteboard\":true}");
+                    ps.setString(4, "Block " + (char) ('A' + row % 6));
+                    ps.setString(5, String.valueOf(random.nextInt(5)));
+                    ps.setString(6, "S-" + row);
+                    ps.setString(7, tenants.get((int) (row % tenantCount)));
+                    ps.setTimestamp(8, Timestamp.valueOf(now.minusDays(365)));
+                });
+
+        // Read back the generated keys; rank order (by id) decides popularity
+        long[] subjects = jdbc.queryForList("SELECT id FROM subjects ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        ZipfDistribution subjectPopularity = new ZipfDistribution(subjects.length, exponent);
+        Map<String, List<Long>> userIds = new LinkedHashMap<>();
+        Map<String, List<String>> userEmails = new LinkedHashMap<>();
+        jdbc.query("SELECT id, email, tenant_id FROM users WHERE email LIKE ? ORDER BY id", rs -> {
+            userIds.computeIfAbsent(rs.getString(3), t -> new ArrayList<>()).add(rs.getLong(1));
+            userEmails.computeIfAbsent(rs.getString(3), t -> new ArrayList<>()).add(rs.getString(2));
+        }, EMAIL_PREFIX + "%" + EMAIL_DOMAIN);
+        Map<String, List<Long>> roomIds = new LinkedHashMap<>();
+        jdbc.query("SELECT id, tenant_id FROM rooms WHERE name LIKE ? ORDER BY id",
+                rs -> {
+                    roomIds.computeIfAbsent(rs.getString(2), t -> new ArrayList<>()).add(rs.getLong(1));
+                }, ROOM_PREFIX + "%");
+        TenantData[] data = tenants.stream()
+                .map(t -> new TenantData(t,
+                        userIds.get(t).stream().mapToLong(Long::longValue).toArray(),
+                        userEmails.get(t).toArray(String[]::new),
+                        roomIds.get(t).stream().mapToLong(Long::longValue).toArray(),
+                        new ZipfDistribution(userIds.get(t).size(), exponent),
+                        new ZipfDistribution(roomIds.get(t).size(), exponent)))
+                .toArray(TenantData[]::new);
+
+        load(pool, workers, "notes", properties.getNotes(),
+                "INSERT INTO notes (title, original_file_name, stored_file_name, file_path, file_size, "
+                        + "uploaded_at, uploaded_by, subject_id, tenant_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    TenantData tenant = data[(int) (row % tenantCount)];
+                    ps.setString(1, "Lecture notes " + row);
+                    ps.setString(2, "notes-" + row + ".pdf");
+                    ps.setString(3, "synthetic-" + row + ".pdf");
+                    ps.setString(4, "uploads/notes/synthetic-" + row + ".pdf");
+                    ps.setLong(5, 50_000 + random.nextLong(5_000_000));
+                    ps.setTimestamp(6, Timestamp.valueOf(now.minusMinutes(random.nextLong(730L * 24 * 60))));
+                    ps.setLong(7, tenant.userIds[random.nextInt(tenant.userIds.length)]);
+                    ps.setLong(8, subjects[subjectPopularity.sample(random)]);
+                    ps.setString(9, tenant.id);
+                });
+
+        load(pool, workers, "question_papers", properties.getPapers(),
+                "INSERT INTO question_papers (title, exam_year, original_file_name, stored_file_name, file_path, "
+                        + "file_size, uploaded_at, uploaded_by, subject_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    TenantData tenant = data[(int) (row % tenantCount)];
+                    int year = now.getYear() - 1 - random.nextInt(10);
+                    ps.setString(1, "End semester " + year + " (" + row + ")");
+                    ps.setInt(2, year);
+                    ps.setString(3, "paper-" + row + ".pdf");
+                    ps.setString(4, "synthetic-" + row + ".pdf");
+                    ps.setString(5, "uploads/papers/synthetic-" + row + ".pdf");
+                    ps.setLong(6, 100_000 + random.nextLong(2_000_000));
+                    ps.setTimestamp(7, Timestamp.valueOf(now.minusMinutes(random.nextLong(730L * 24 * 60))));
+                    ps.setLong(8, tenant.userIds[random.nextInt(tenant.userIds.length)]);
+                    ps.setLong(9, subjects[subjectPopularity.sample(random)]);
+                });
+
+        // Hourly slots from 90 days back to 90 days ahead, 08:00 to 20:00
+        load(pool, workers, "bookings", properties.getBookings(),
+                "INSERT INTO bookings (user_id, room_id, start_at, end_at, status, purpose, tenant_id, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    TenantData tenant = data[(int) (row % tenantCount)];
+                    LocalDateTime start = now.truncatedTo(ChronoUnit.DAYS)
+                            .plusDays(random.nextInt(181) - 90)
+                            .plusHours(8 + random.nextInt(12));
+                    ps.setLong(1, tenant.userIds[random.nextInt(tenant.userIds.length)]);
+                    ps.setLong(2, tenant.roomIds[tenant.roomPopularity.sample(random)]);
+                    ps.setTimestamp(3, Timestamp.valueOf(start));
+                    ps.setTimestamp(4, Timestamp.valueOf(start.plusHours(1 + random.nextInt(3))));
+                    ps.setString(5, BOOKING_STATUSES[random.nextInt(BOOKING_STATUSES.length)]);
+                    ps.setString(6, "Group study");
+                    ps.setString(7, tenant.id);
+                    ps.setTimestamp(8, Timestamp.valueOf(start.minusHours(1 + random.nextInt(14 * 24))));
+                });
+
+        load(pool, workers, "study_tasks", properties.getTasks(),
+                "INSERT INTO study_tasks (user_id, title, description, due_date, status, priority, tenant_id, "
+                        + "created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    TenantData tenant = data[(int) (row % tenantCount)];
+                    LocalDateTime due = now.plusHours(random.nextInt(120 * 24) - 60 * 24);
+                    ps.setLong(1, tenant.userIds[random.nextInt(tenant.userIds.length)]);
+                    ps.setString(2, "Study task " + row);
+                    ps.setString(3, "Revise chapter " + (1 + random.nextInt(12)));
+                    ps.setTimestamp(4, Timestamp.valueOf(due));
+                    ps.setString(5, TASK_STATUSES[random.nextInt(TASK_STATUSES.length)]);
+                    ps.setString(6, TASK_PRIORITIES[random.nextInt(TASK_PRIORITIES.length)]);
+                    ps.setString(7, tenant.id);
+                    ps.setTimestamp(8, Timestamp.valueOf(due.minusDays(1 + random.nextInt(30))));
+                });
+
+        // Active users and popular subjects dominate the event stream
+        OffsetDateTime nowUtc = now.atOffset(ZoneOffset.UTC);
+        load(pool, workers, "analytics_events", properties.getAnalyticsEvents(),
+                "INSERT INTO analytics_events (event_type, payload, user_id, tenant_id, created_at) "
+                        + "VALUES (?, CAST(? AS jsonb), ?, ?, ?)",
+                (ps, row, random) -> {
+                    TenantData tenant = data[(int) (row % tenantCount)];
+                    String type = EVENT_TYPES[random.nextInt(EVENT_TYPES.length)];
+                    String payload = switch (type) {
+                        case "resource_upload" -> "{\"type\":\"note\",\"id\":" + random.nextInt(1_000_000)
+                                + ",\"subjectId\":" + subjects[subjectPopularity.sample(random)] + "}";
+                        case "booking_create", "booking_approve", "booking_reject" -> "{\"bookingId\":"
+                                + random.nextInt(1_000_000) + ",\"roomId\":"
+                                + tenant.roomIds[tenant.roomPopularity.sample(random)] + "}";
+                        default -> "{\"taskId\":" + random.nextInt(1_000_000) + "}";
+                    };
+                    ps.setString(1, type);
+                    ps.setString(2, payload);
+                    ps.setString(3, tenant.userEmails[tenant.userPopularity.sample(random)]);
+                    ps.setString(4, tenant.id);
+                    ps.setObject(5, nowUtc.minusSeconds(random.nextLong(180L * 24 * 3600)));
+                });
+    }
+
+    /**
+     * Inserts {@code rows} rows in chunks of {@code chunk-size} on the worker
+     * threads and waits for all of them; the first failure aborts the run.
+     */
+    private void load(DataSource pool, ExecutorService workers, String table, long rows, String sql,
+            RowWriter writer) {
+        if (rows <= 0) {
+            return;
+        }
+        long started = System.nanoTime();
+        List<Future<?>> chunks = new ArrayList<>();
+        for (long from = 0; from < rows; from += properties.getChunkSize()) {
+            long first = from;
+            long last = Math.min(rows, from + properties.getChunkSize());
+            SplittableRandom random = new SplittableRandom(
+                    properties.getSeed() * 31 + table.hashCode() * 1_000_003L + from);
+            chunks.add(workers.submit(() -> {
+                insertChunk(pool, sql, first, last, random, writer);
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading " + table, e);
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException("Failed to load " + table, e.getCause());
+        }
+        long millis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("Loaded {} {} rows in {} ms ({} rows/s)", rows, table, millis, rows * 1000 / millis);
+    }
+
+    private void insertChunk(DataSource pool, String sql, long first, long last, SplittableRandom random,
+            RowWriter writer) throws SQLException {
+        try (Connection connection = pool.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            int batched = 0;
+            for (long row = first; row < last; row++) {
+                writer.write(statement, row, random);
+                statement.addBatch();
+                if (++batched == properties.getBatchSize()) {
+                    statement.executeBatch();
+                    batched = 0;
+                }
+            }
+            if (batched > 0) {
+                statement.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private HikariDataSource createPool(int threads) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        pool.setPoolName("synthetic");
+        pool.setMaximumPoolSize(threads);
+        pool.setMinimumIdle(0);
+        if (pool.getJdbcUrl() != null && pool.getJdbcUrl().startsWith("jdbc:postgresql:")) {
+            pool.addDataSourceProperty("reWriteBatchedInserts", "true");
+        }
+        return pool;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement statement, long row, SplittableRandom random) throws SQLException;
+    }
+
+    private record TenantData(String id, long[] userIds, String[] userEmails, long[] roomIds,
+            ZipfDistribution userPopularity, ZipfDistribution roomPopularity) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Enables {@code @Async} and defines one bounded executor per subsystem.
+ *
+ * Methods name their executor, e.g. {@code @Async(AsyncConfig.ANALYTICS_EXECUTOR)};
+ * an unqualified {@code @Async} and MVC async requests use the shared
+ * {@code applicationTaskExecutor}, configured by {@code spring.task.execution.*}.
+ * Sizes and rejection policies come from {@link AsyncProperties}. In
+ * virtual-thread mode the pools keep their bounds but run on virtual threads.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String ANALYTICS_EXECUTOR = "analyticsExecutor";
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String FILE_EXECUTOR = "fileExecutor";
+    public static final String DASHBOARD_EXECUTOR = "dashboardExecutor";
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    private final AsyncProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean virtualThreads;
+
+    public AsyncConfig(AsyncProperties properties, ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Spring Boot's shared executor, declared here because Boot backs off as
+     * soon as any other executor bean exists.
+     */
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolBuilder,
+            SimpleAsyncTaskExecutorBuilder virtualThreadBuilder) {
+        return virtualThreads ? virtualThreadBuilder.build() : threadPoolBuilder.build();
+    }
+
+    @Bean(ANALYTICS_EXECUTOR)
+    public ThreadPoolTaskExecutor analyticsExecutor() {
+        return create("analytics", properties.getAnalytics());
+    }
+
+    @Bean(NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        return create("notification", properties.getNotification());
+    }
+
+    @Bean(FILE_EXECUTOR)
+    public ThreadPoolTaskExecutor fileExecutor() {
+        return create("file", properties.getFile());
+    }
+
+    @Bean(DASHBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor dashboardExecutor() {
+        return create("dashboard", properties.getDashboard());
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("Async method {}.{} failed",
+                method.getDeclaringClass().getSimpleName(), method.getName(), ex);
+    }
+
+    private ThreadPoolTaskExecutor create(String name, AsyncProperties.Pool pool) {
+        return InstrumentedExecutors.create(name, pool, properties.getShutdownTimeout(), virtualThreads,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,146 @@
+package com.campusstudyhub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the {@code @Async} executors, loaded from {@code app.async.*}.
+ *
+ * Each subsystem has its own bounded pool so a slow dependency (FCM, disk)
+ * can only exhaust its own threads and queue.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncProperties {
+
+    private Pool analytics = new Pool(2, 4, 2000, RejectionPolicy.DISCARD);
+
+    private Pool notification = new Pool(2, 8, 500, RejectionPolicy.DISCARD);
+
+    private Pool file = new Pool(1, 2, 200, RejectionPolicy.CALLER_RUNS);
+
+    /** Parallel dashboard queries; when full, the request thread runs them itself */
+    private Pool dashboard = new Pool(4, 16, 100, RejectionPolicy.CALLER_RUNS);
+
+    /** How long shutdown waits for queued tasks to finish */
+    private Duration shutdownTimeout = Duration.ofSeconds(20);
+
+    public Pool getAnalytics() {
+        return analytics;
+    }
+
+    public void setAnalytics(Pool analytics) {
+        this.analytics = analytics;
+    }
+
+    public Pool getNotification() {
+        return notification;
+    }
+
+    public void setNotification(Pool notification) {
+        this.notification = notification;
+    }
+
+    public Pool getFile() {
+        return file;
+    }
+
+    public void setFile(Pool file) {
+        this.file = file;
+    }
+
+    public Pool getDashboard() {
+        return dashboard;
+    }
+
+    public void setDashboard(Pool dashboard) {
+        this.dashboard = dashboard;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * What happens to a task when the pool and its queue are full.
+     */
+    public enum RejectionPolicy {
+        /** Throw TaskRejectedException to the caller */
+        ABORT,
+        /** Run the task on the submitting thread */
+        CALLER_RUNS,
+        /** Drop the new task */
+        DISCARD,
+        /** Drop the oldest queued task and queue the new one */
+        DISCARD_OLDEST
+    }
+
+    public static class Pool {
+
+        private int coreSize;
+
+        private int maxSize;
+
+        private int queueCapacity;
+
+        private RejectionPolicy rejectionPolicy;
+
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        public Pool() {
+        }
+
+        public Pool(int coreSize, int maxSize, int queueCapacity, RejectionPolicy rejectionPolicy) {
+            this.coreSize = coreSize;
+            this.maxSize = maxSize;
+            this.queueCapacity = queueCapacity;
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public int getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(int coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+    }
+}
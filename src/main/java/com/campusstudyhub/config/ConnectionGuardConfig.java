@@ -0,0 +1,67 @@
+package com.campusstudyhub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Puts a {@link GuardedDataSource} in front of the Hikari pool when
+ * {@code app.datasource.guard.enabled=true}, which is the default in
+ * virtual-thread mode. Dedicated tenant pools are guarded by
+ * {@link TenantDataSourceConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.guard", name = "enabled", havingValue = "true")
+public class ConnectionGuardConfig {
+
+    @Bean
+    public static GuardPostProcessor connectionGuardPostProcessor(Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        Duration maxWait = Binder.get(environment)
+                .bind("app.datasource.guard.max-wait", Duration.class)
+                .orElse(Duration.ofSeconds(5));
+
+        return new GuardPostProcessor(maxWait, meterRegistry);
+    }
+
+    /**
+     * Ordered so it sees the raw pool before {@link ReplicaDataSourceConfig}
+     * wraps the {@code dataSource} bean; the bean method declares this type so
+     * Spring can see the order before creating it.
+     */
+    static final class GuardPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Duration maxWait;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private GuardPostProcessor(Duration maxWait, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.maxWait = maxWait;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                String poolName = pool.getPoolName() != null ? pool.getPoolName() : beanName;
+                return new GuardedDataSource(pool, poolName, pool.getMaximumPoolSize(), maxWait,
+                        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return 0;
+        }
+    }
+}
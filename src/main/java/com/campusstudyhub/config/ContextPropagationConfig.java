@@ -0,0 +1,22 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.ContextPropagation;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries tenant, user and request ID into {@code @Async} methods.
+ *
+ * Spring Boot applies the {@link TaskDecorator} bean to the executors it
+ * configures, on platform or virtual threads. Scheduled jobs start with no
+ * request context, so the task schedulers are left alone.
+ */
+@Configuration
+public class ContextPropagationConfig {
+
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return ContextPropagation.taskDecorator();
+    }
+}
@@ -15,6 +15,10 @@ import java.util.Base64;
 
 /**
  * Configuration to initialize Firebase Admin SDK.
+ *
+ * Initialization goes through {@link StartupTasks}, so with deferred
+ * initialization it happens after the instance reports ready; pushes sent
+ * before then fail and are logged.
  */
 @Configuration
 public class FirebaseConfig {
@@ -27,8 +31,18 @@ public class FirebaseConfig {
     @Value("${app.fcm.enabled:false}")
     private boolean fcmEnabled;
 
+    private final StartupTasks startupTasks;
+
+    public FirebaseConfig(StartupTasks startupTasks) {
+        this.startupTasks = startupTasks;
+    }
+
     @PostConstruct
     public void init() {
+        startupTasks.run("Firebase initialization", this::initializeFirebase);
+    }
+
+    private void initializeFirebase() {
         if (!fcmEnabled) {
             log.info("FCM is disabled. Skipping Firebase initialization.");
             return;
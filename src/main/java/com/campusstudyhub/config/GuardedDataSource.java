@@ -0,0 +1,122 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits at most as many callers as the pool has connections.
+ *
+ * With virtual threads nothing else limits how many requests reach the
+ * database at once, so the pool becomes the throttle. Waiters queue fairly
+ * on a semaphore, and after {@code maxWait} they get an exception naming
+ * the pool and its size instead of an opaque pool timeout. Rejections are
+ * counted in {@code db.connection.guard.rejected}.
+ */
+public class GuardedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final String poolName;
+    private final int limit;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public GuardedDataSource(DataSource target, String poolName, int limit, Duration maxWait,
+            MeterRegistry registry) {
+        super(target);
+        this.poolName = poolName;
+        this.limit = limit;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(limit, true);
+        this.rejected = Counter.builder("db.connection.guard.rejected")
+                .description("Connection requests refused because every connection was in use")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge.builder("db.connection.guard.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a connection")
+                .tag("pool", poolName)
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException(String.format(
+                    "All %d connections of database pool '%s' are in use; gave up after %d ms",
+                    limit, poolName, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos)));
+        }
+    }
+
+    /**
+     * Return the permit exactly once, when the caller closes the connection.
+     */
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
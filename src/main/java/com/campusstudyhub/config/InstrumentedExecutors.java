@@ -0,0 +1,121 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.ContextPropagation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds bounded, instrumented executors for {@code @Async} work.
+ *
+ * Each executor reports, tagged {@code name=<executor>}:
+ * {@code executor.active}, {@code executor.queued}, {@code executor.pool.size},
+ * {@code executor.queue.remaining}, {@code executor.rejected}, the time tasks
+ * spend queued ({@code executor.idle}) and running ({@code executor}).
+ * Tasks run with their submitter's tenant, user and request ID.
+ */
+public final class InstrumentedExecutors {
+
+    private static final Logger log = LoggerFactory.getLogger(InstrumentedExecutors.class);
+
+    private InstrumentedExecutors() {
+    }
+
+    /**
+     * Create an executor; Spring initializes it when it is registered as a bean.
+     */
+    public static ThreadPoolTaskExecutor create(String name, AsyncProperties.Pool pool, Duration shutdownTimeout,
+            boolean virtualThreads, MeterRegistry registry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setBeanName(name + "Executor");
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(Math.max(pool.getCoreSize(), pool.getMaxSize()));
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) pool.getKeepAlive().toSeconds());
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(name + "-", 0).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(shutdownTimeout.toMillis());
+
+        Timer idle = Timer.builder("executor.idle")
+                .description("Time tasks wait in the queue")
+                .tag("name", name)
+                .register(registry);
+        Timer execution = Timer.builder("executor")
+                .description("Time tasks take to run")
+                .tag("name", name)
+                .register(registry);
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("Tasks refused because the pool and queue were full")
+                .tag("name", name)
+                .register(registry);
+
+        executor.setTaskDecorator(timed(idle, execution, ContextPropagation.taskDecorator()));
+        executor.setRejectedExecutionHandler(counting(name, rejected, rejectionHandler(pool.getRejectionPolicy())));
+
+        Gauge.builder("executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads running tasks")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Tasks waiting in the queue")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("executor.queue.remaining", executor, e -> e.getQueueCapacity() - e.getQueueSize())
+                .description("Free queue slots")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Threads in the pool")
+                .tag("name", name)
+                .register(registry);
+
+        return executor;
+    }
+
+    private static TaskDecorator timed(Timer idle, Timer execution, TaskDecorator delegate) {
+        return task -> {
+            long submitted = System.nanoTime();
+            Runnable decorated = delegate.decorate(task);
+            return () -> {
+                long started = System.nanoTime();
+                idle.record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    decorated.run();
+                } finally {
+                    execution.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private static RejectedExecutionHandler counting(String name, Counter rejected, RejectedExecutionHandler delegate) {
+        return (task, pool) -> {
+            rejected.increment();
+            log.debug("Executor '{}' saturated ({} active, {} queued); applying {}", name, pool.getActiveCount(),
+                    pool.getQueue().size(), delegate.getClass().getSimpleName());
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(AsyncProperties.RejectionPolicy policy) {
+        return switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+}
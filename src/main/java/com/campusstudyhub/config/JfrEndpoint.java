@@ -0,0 +1,81 @@
+package com.campusstudyhub.config;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * {@code /actuator/jfr}: on-demand Flight Recorder recordings. Restricted
+ * to admins with a bearer token in {@link SecurityConfig}.
+ *
+ * <ul>
+ * <li>{@code GET /actuator/jfr} lists recordings and profiles</li>
+ * <li>{@code POST /actuator/jfr} with {@code {"profile": "profile", "duration": "5m"}}
+ * starts one</li>
+ * <li>{@code DELETE /actuator/jfr/{id}} stops it early</li>
+ * <li>{@code GET /actuator/jfr/{id}} downloads the finished {@code .jfr} file</li>
+ * </ul>
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class JfrEndpoint {
+
+    private final JfrRecorder recorder;
+
+    public JfrEndpoint(JfrRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recordings() {
+        return Map.of(
+                "profiles", Arrays.stream(JfrRecorder.Profile.values()).map(JfrRecorder.Profile::id).toList(),
+                "recordings", recorder.list());
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Nullable String profile, @Nullable Duration duration) {
+        try {
+            return new WebEndpointResponse<>(recorder.start(profile, duration));
+        } catch (IllegalArgumentException e) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, e);
+        } catch (IllegalStateException e) {
+            return error(409, e);
+        }
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<Object> stop(@Selector long id) {
+        try {
+            return new WebEndpointResponse<>(recorder.stop(id));
+        } catch (IllegalArgumentException e) {
+            return error(WebEndpointResponse.STATUS_NOT_FOUND, e);
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector long id) {
+        try {
+            return new WebEndpointResponse<>(new FileSystemResource(recorder.file(id)));
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(409);
+        }
+    }
+
+    private static WebEndpointResponse<Object> error(int status, RuntimeException e) {
+        return new WebEndpointResponse<>(Map.of("error", e.getMessage()), status);
+    }
+}
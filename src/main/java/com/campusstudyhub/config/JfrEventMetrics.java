@@ -0,0 +1,117 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Streams a few Flight Recorder events into Micrometer for as long as the
+ * application runs:
+ *
+ * <ul>
+ * <li>{@code jfr.gc.pause} (tags {@code collector}, {@code cause}): total
+ * pause time of each collection</li>
+ * <li>{@code jfr.monitor.enter} (tag {@code class}): time blocked entering a
+ * contended {@code synchronized} block</li>
+ * <li>{@code jfr.virtual.thread.pinned}: time a virtual thread held on to its
+ * carrier while blocked</li>
+ * <li>{@code jfr.socket.io} / {@code jfr.file.io} (tag {@code operation}):
+ * blocking reads and writes, with {@code .bytes} summaries</li>
+ * </ul>
+ *
+ * Apart from GC, only events longer than {@code app.jfr.metrics-threshold}
+ * are recorded. The counts are of slow operations, not of all of them.
+ */
+@Component
+public class JfrEventMetrics implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrEventMetrics.class);
+
+    private final MeterRegistry registry;
+    private final JfrProperties properties;
+    private RecordingStream stream;
+
+    public JfrEventMetrics(MeterRegistry registry, JfrProperties properties) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!properties.isEnabled() || !properties.isMetricsEnabled() || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        Duration threshold = properties.getMetricsThreshold();
+        stream = new RecordingStream();
+
+        stream.enable("jdk.GarbageCollection");
+        stream.onEvent("jdk.GarbageCollection", event -> Timer.builder("jfr.gc.pause")
+                .tag("collector", event.getString("name"))
+                .tag("cause", event.getString("cause"))
+                .register(registry)
+                .record(event.getDuration("sumOfPauses")));
+
+        stream.enable("jdk.JavaMonitorEnter").withThreshold(threshold).withoutStackTrace();
+        stream.onEvent("jdk.JavaMonitorEnter", event -> Timer.builder("jfr.monitor.enter")
+                .tag("class", className(event.getClass("monitorClass")))
+                .register(registry)
+                .record(event.getDuration()));
+
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withoutStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> Timer.builder("jfr.virtual.thread.pinned")
+                .register(registry)
+                .record(event.getDuration()));
+
+        io("jdk.SocketRead", "jfr.socket.io", "read", "bytesRead", threshold);
+        io("jdk.SocketWrite", "jfr.socket.io", "write", "bytesWritten", threshold);
+        io("jdk.FileRead", "jfr.file.io", "read", "bytesRead", threshold);
+        io("jdk.FileWrite", "jfr.file.io", "write", "bytesWritten", threshold);
+
+        stream.setMaxAge(Duration.ofSeconds(10));
+        stream.startAsync();
+        log.info("Publishing JFR events as metrics (threshold {})", threshold);
+    }
+
+    private void io(String eventName, String metric, String operation, String bytesField, Duration threshold) {
+        stream.enable(eventName).withThreshold(threshold).withoutStackTrace();
+        Timer timer = Timer.builder(metric).tag("operation", operation).register(registry);
+        DistributionSummary bytes = DistributionSummary.builder(metric + ".bytes")
+                .baseUnit("bytes")
+                .tag("operation", operation)
+                .register(registry);
+        stream.onEvent(eventName, event -> {
+            timer.record(event.getDuration());
+            long count = event.getLong(bytesField);
+            if (count > 0) {
+                bytes.record(count);
+            }
+        });
+    }
+
+    private static String className(RecordedClass type) {
+        return type == null ? "unknown" : type.getName();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+}
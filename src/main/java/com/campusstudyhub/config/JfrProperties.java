@@ -0,0 +1,119 @@
+package com.campusstudyhub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * On-demand Flight Recorder settings, loaded from {@code app.jfr.*}.
+ *
+ * Recordings started through {@code /actuator/jfr} always stop on their
+ * own after at most {@code maxDuration}. Each is capped at
+ * {@code maxRecordingSize}. Finished files in {@code directory} are pruned,
+ * oldest first, down to {@code maxFiles} and {@code maxTotalSize}.
+ * {@code metricsThreshold} is the shortest lock wait or socket/file
+ * operation that is published as a metric.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.jfr")
+public class JfrProperties {
+
+    private boolean enabled = true;
+
+    private String directory = System.getProperty("java.io.tmpdir") + "/campus-hub-jfr";
+
+    private Duration defaultDuration = Duration.ofMinutes(2);
+    private Duration maxDuration = Duration.ofMinutes(15);
+
+    private DataSize maxRecordingSize = DataSize.ofMegabytes(100);
+    private DataSize maxTotalSize = DataSize.ofMegabytes(500);
+    private int maxFiles = 10;
+
+    /** Recordings that may run at the same time */
+    private int maxConcurrent = 1;
+
+    private boolean metricsEnabled = true;
+    private Duration metricsThreshold = Duration.ofMillis(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public Duration getDefaultDuration() {
+        return defaultDuration;
+    }
+
+    public void setDefaultDuration(Duration defaultDuration) {
+        this.defaultDuration = defaultDuration;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public DataSize getMaxRecordingSize() {
+        return maxRecordingSize;
+    }
+
+    public void setMaxRecordingSize(DataSize maxRecordingSize) {
+        this.maxRecordingSize = maxRecordingSize;
+    }
+
+    public DataSize getMaxTotalSize() {
+        return maxTotalSize;
+    }
+
+    public void setMaxTotalSize(DataSize maxTotalSize) {
+        this.maxTotalSize = maxTotalSize;
+    }
+
+    public int getMaxFiles() {
+        return maxFiles;
+    }
+
+    public void setMaxFiles(int maxFiles) {
+        this.maxFiles = maxFiles;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public Duration getMetricsThreshold() {
+        return metricsThreshold;
+    }
+
+    public void setMetricsThreshold(Duration metricsThreshold) {
+        this.metricsThreshold = metricsThreshold;
+    }
+}
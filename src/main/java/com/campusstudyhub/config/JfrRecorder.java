@@ -0,0 +1,316 @@
+package com.campusstudyhub.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Starts and stops Flight Recorder recordings on demand, for
+ * {@link JfrEndpoint}.
+ *
+ * Every recording has a duration, so it stops by itself and JFR writes
+ * it to {@code app.jfr.directory}. Before a recording starts, old files
+ * are deleted, oldest first, until there is room for one more at
+ * {@code maxRecordingSize}. That keeps the directory within
+ * {@code maxFiles} and {@code maxTotalSize}.
+ */
+@Component
+public class JfrRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecorder.class);
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    /**
+     * Recording presets. {@code default} and {@code profile} are the JDK's own
+     * settings (about 1% and 2% overhead); {@code heap} adds the paths to GC
+     * roots of sampled old objects, for tracking down leaks.
+     */
+    public enum Profile {
+        DEFAULT("default", Map.of()),
+        PROFILE("profile", Map.of()),
+        HEAP("profile", Map.of(
+                "jdk.OldObjectSample#enabled", "true",
+                "jdk.OldObjectSample#stackTrace", "true",
+                "jdk.OldObjectSample#cutoff", "infinity"));
+
+        private final String configuration;
+        private final Map<String, String> overrides;
+
+        Profile(String configuration, Map<String, String> overrides) {
+            this.configuration = configuration;
+            this.overrides = overrides;
+        }
+
+        public String id() {
+            return name().toLowerCase();
+        }
+
+        static Profile of(String id) {
+            return Arrays.stream(values())
+                    .filter(profile -> profile.id().equalsIgnoreCase(id))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown JFR profile: " + id));
+        }
+
+        Map<String, String> settings() {
+            try {
+                Map<String, String> settings = new HashMap<>(Configuration.getConfiguration(configuration).getSettings());
+                settings.putAll(overrides);
+                return settings;
+            } catch (IOException | ParseException e) {
+                throw new IllegalStateException("Cannot load JFR configuration " + configuration, e);
+            }
+        }
+    }
+
+    /**
+     * A recording as reported by the endpoint. {@code downloadable} is true
+     * once the recording has stopped and its file has not been pruned.
+     */
+    public record RecordingInfo(long id, String name, String profile, String state, Instant startTime,
+            Duration duration, long sizeBytes, boolean downloadable) {
+    }
+
+    private final JfrProperties properties;
+    private final Map<Long, Entry> recordings = new ConcurrentHashMap<>();
+
+    public JfrRecorder(JfrProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Start a recording.
+     *
+     * @param profileId one of the {@link Profile} ids; {@code null} for default
+     * @param duration  how long to record; {@code null} for the configured
+     *                  default, and never longer than {@code maxDuration}
+     */
+    public synchronized RecordingInfo start(String profileId, Duration duration) {
+        if (!properties.isEnabled() || !FlightRecorder.isAvailable()) {
+            throw new IllegalStateException("JFR recordings are not available");
+        }
+        Profile profile = profileId == null ? Profile.DEFAULT : Profile.of(profileId);
+        if (duration != null && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        Duration limited = duration == null ? properties.getDefaultDuration() : duration;
+        if (limited.compareTo(properties.getMaxDuration()) > 0) {
+            limited = properties.getMaxDuration();
+        }
+
+        tidy();
+        long running = recordings.values().stream().filter(Entry::isActive).count();
+        if (running >= properties.getMaxConcurrent()) {
+            throw new IllegalStateException("A JFR recording is already running");
+        }
+
+        Path directory = directory();
+        prune(directory, properties.getMaxRecordingSize().toBytes(), 1);
+
+        Instant now = Instant.now();
+        String name = "campus-hub-" + profile.id() + "-" + FILE_TIMESTAMP.format(now);
+        Recording recording = new Recording(profile.settings());
+        try {
+            recording.setName(name);
+            recording.setToDisk(true);
+            recording.setMaxSize(properties.getMaxRecordingSize().toBytes());
+            recording.setDuration(limited);
+            recording.setDestination(directory.resolve(name + "-" + recording.getId() + ".jfr"));
+            recording.start();
+        } catch (IOException | RuntimeException e) {
+            recording.close();
+            throw new IllegalStateException("Cannot start JFR recording", e);
+        }
+
+        Entry entry = new Entry(recording, profile);
+        recordings.put(recording.getId(), entry);
+        log.info("JFR recording {} ({}) started for {}", recording.getId(), profile.id(), limited);
+        return entry.info();
+    }
+
+    /**
+     * Stop a recording early; its file is written as if it had run to the end.
+     */
+    public synchronized RecordingInfo stop(long id) {
+        Entry entry = find(id);
+        if (entry.isActive()) {
+            try {
+                entry.recording.stop();
+            } catch (IllegalStateException e) {
+                // It reached its duration in the meantime
+            }
+            log.info("JFR recording {} stopped", id);
+        }
+        return entry.info();
+    }
+
+    public synchronized List<RecordingInfo> list() {
+        tidy();
+        return recordings.values().stream()
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.recording.getId()).reversed())
+                .map(Entry::info)
+                .toList();
+    }
+
+    /**
+     * The file of a finished recording.
+     */
+    public Path file(long id) {
+        Entry entry = find(id);
+        if (entry.isActive()) {
+            throw new IllegalStateException("JFR recording " + id + " is still running");
+        }
+        if (!entry.hasFile()) {
+            throw new IllegalStateException("JFR recording " + id + " has been pruned");
+        }
+        return entry.file;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        recordings.values().forEach(entry -> entry.recording.close());
+        recordings.clear();
+    }
+
+    private Entry find(long id) {
+        Entry entry = recordings.get(id);
+        if (entry == null) {
+            throw new IllegalArgumentException("No JFR recording with id " + id);
+        }
+        return entry;
+    }
+
+    /**
+     * Close finished recordings, which frees their chunks in the JFR
+     * repository (their file is already written), and forget the ones whose
+     * file has been pruned.
+     */
+    private void tidy() {
+        recordings.values().removeIf(entry -> {
+            if (entry.isActive()) {
+                return false;
+            }
+            if (entry.recording.getState() == RecordingState.STOPPED) {
+                entry.recording.close();
+            }
+            return !entry.hasFile();
+        });
+    }
+
+    private Path directory() {
+        Path directory = Paths.get(properties.getDirectory());
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create JFR directory " + directory, e);
+        }
+        return directory;
+    }
+
+    /**
+     * Delete the oldest recordings until {@code reserveFiles} more files of
+     * {@code reserveBytes} in total would still fit within the limits.
+     */
+    void prune(Path directory, long reserveBytes, int reserveFiles) {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().endsWith(".jfr"))
+                    .sorted(Comparator.comparing(JfrRecorder::lastModified).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list JFR directory " + directory, e);
+        }
+
+        long budget = properties.getMaxTotalSize().toBytes() - reserveBytes;
+        int slots = properties.getMaxFiles() - reserveFiles;
+        long used = 0;
+        int kept = 0;
+        for (Path file : files) {
+            long size = size(file);
+            if (kept < slots && used + size <= budget) {
+                used += size;
+                kept++;
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+                log.debug("Pruned JFR recording {}", file.getFileName());
+            } catch (IOException e) {
+                log.warn("Cannot delete JFR recording {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Recording recording;
+        private final Profile profile;
+        private final Path file;
+
+        private Entry(Recording recording, Profile profile) {
+            this.recording = recording;
+            this.profile = profile;
+            this.file = recording.getDestination();
+        }
+
+        private boolean isActive() {
+            RecordingState state = recording.getState();
+            return state == RecordingState.NEW || state == RecordingState.DELAYED
+                    || state == RecordingState.RUNNING;
+        }
+
+        private boolean hasFile() {
+            return Files.exists(file);
+        }
+
+        private RecordingInfo info() {
+            boolean active = isActive();
+            boolean downloadable = !active && hasFile();
+            return new RecordingInfo(recording.getId(), recording.getName(), profile.id(),
+                    recording.getState().name(), recording.getStartTime(), recording.getDuration(),
+                    downloadable ? size(file) : recording.getSize(), downloadable);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.campusstudyhub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Latency SLOs and query-count limits, loaded from {@code app.metrics.*}.
+ *
+ * Requests whose route matches one of {@code sloPaths} (Ant patterns,
+ * matched against the {@code uri} tag) get {@code http.server.requests}
+ * histogram buckets at each of {@code sloBuckets}, so the share of requests
+ * inside a budget can be read straight from Prometheus. A request that runs
+ * more than {@code queryWarnThreshold} SQL statements is logged and counted.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.metrics")
+public class LatencyMetricsProperties {
+
+    private List<String> sloPaths = new ArrayList<>(List.of("/api/v1/bookings/**", "/bookings/**", "/files/**"));
+
+    private List<Duration> sloBuckets = new ArrayList<>(List.of(Duration.ofMillis(50), Duration.ofMillis(100),
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2)));
+
+    private int queryWarnThreshold = 20;
+
+    public List<String> getSloPaths() {
+        return sloPaths;
+    }
+
+    public void setSloPaths(List<String> sloPaths) {
+        this.sloPaths = sloPaths;
+    }
+
+    public List<Duration> getSloBuckets() {
+        return sloBuckets;
+    }
+
+    public void setSloBuckets(List<Duration> sloBuckets) {
+        this.sloBuckets = sloBuckets;
+    }
+
+    public int getQueryWarnThreshold() {
+        return queryWarnThreshold;
+    }
+
+    public void setQueryWarnThreshold(int queryWarnThreshold) {
+        this.queryWarnThreshold = queryWarnThreshold;
+    }
+}
@@ -0,0 +1,30 @@
+package com.campusstudyhub.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+
+/**
+ * Beans that stay eager under {@code spring.main.lazy-initialization}
+ * ({@code faststart} profile). Migrations must have run, and Hibernate must
+ * have booted, before the instance reports ready. Otherwise the first
+ * request would pay for them, or fail on a stale schema. Firebase setup
+ * has no dependants to trigger it, so it is kept eager too; it still runs
+ * after readiness through {@link StartupTasks}.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, Flyway.class,
+                FlywayMigrationInitializer.class, EntityManagerFactory.class, AbstractEntityManagerFactoryBean.class,
+                FirebaseConfig.class);
+    }
+}
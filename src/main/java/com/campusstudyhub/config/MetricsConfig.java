@@ -0,0 +1,57 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.AntPathMatcher;
+
+import java.time.Duration;
+
+/**
+ * Latency instrumentation beyond what Spring Boot records by itself.
+ *
+ * {@link TimedAspect} turns {@code @Timed} on service classes into the
+ * {@code app.service} timer, tagged by class and method. Repository calls
+ * are timed by Spring Boot as {@code spring.data.repository.invocations}.
+ * The SLO filter adds fixed histogram buckets to the HTTP timer on the
+ * routes listed in {@link LatencyMetricsProperties#getSloPaths()}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterFilter sloMeterFilter(LatencyMetricsProperties properties) {
+        AntPathMatcher matcher = new AntPathMatcher();
+        double[] buckets = properties.getSloBuckets().stream()
+                .mapToDouble(Duration::toNanos)
+                .toArray();
+
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || buckets.length == 0) {
+                    return config;
+                }
+                String uri = id.getTag("uri");
+                if (uri == null || properties.getSloPaths().stream().noneMatch(path -> matcher.match(path, uri))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .serviceLevelObjectives(buckets)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.repository.TaskStatusCount;
+import com.campusstudyhub.service.DashboardService;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Reachability metadata for the native image ({@code ./mvnw -Pnative}) that
+ * Spring's AOT processing cannot work out from the bean definitions alone.
+ * Hibernate, Thymeleaf's own classes, Flyway migrations and templates are
+ * covered by Spring Boot and the GraalVM metadata repository.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final MemberCategory[] VIEW_MODEL = {
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS };
+
+        private static final MemberCategory[] JSON_MAPPED = {
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Thymeleaf templates read DTOs, entities and view records through
+            // SpEL, and Jackson writes them from places AOT does not see
+            // (actuator endpoints, analytics payloads, cached dashboards)
+            registerPackage(hints, classLoader, "com.campusstudyhub.dto", VIEW_MODEL);
+            registerPackage(hints, classLoader, "com.campusstudyhub.entity", VIEW_MODEL);
+            hints.reflection()
+                    .registerType(DashboardService.Dashboard.class, VIEW_MODEL)
+                    .registerType(DashboardService.Summary.class, VIEW_MODEL)
+                    .registerType(JfrRecorder.RecordingInfo.class, VIEW_MODEL)
+                    // Built by a JPQL constructor expression
+                    .registerType(TaskStatusCount.class, VIEW_MODEL);
+
+            // firebase-admin: google-http-client maps JSON to @Key fields by
+            // reflection, both for FCM messages and for the signed service
+            // account assertion; the SDK version is read from a resource
+            registerPackage(hints, classLoader, "com.google.firebase.messaging", JSON_MAPPED);
+            registerPackage(hints, classLoader, "com.google.firebase.messaging.internal", JSON_MAPPED);
+            registerPackage(hints, classLoader, "com.google.api.client.json.webtoken", JSON_MAPPED);
+            registerPackage(hints, classLoader, "com.google.api.client.auth.oauth2", JSON_MAPPED);
+            hints.resources().registerPattern("admin_sdk.properties");
+        }
+
+        /**
+         * Register every class in a package (not its subpackages), read from
+         * the class files so nothing is loaded at build time.
+         */
+        private static void registerPackage(RuntimeHints hints, ClassLoader classLoader, String packageName,
+                MemberCategory... categories) {
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+            MetadataReaderFactory readers = new CachingMetadataReaderFactory(resolver);
+            String pattern = "classpath*:" + ClassUtils.convertClassNameToResourcePath(packageName) + "/*.class";
+            try {
+                for (Resource resource : resolver.getResources(pattern)) {
+                    String className = readers.getMetadataReader(resource).getClassMetadata().getClassName();
+                    if (className.endsWith("package-info") || className.endsWith("module-info")) {
+                        continue;
+                    }
+                    hints.reflection().registerType(TypeReference.of(className), categories);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot scan " + packageName + " for native hints", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran, as the
+ * {@code db.queries.per.request} summary tagged with the route and method.
+ *
+ * The summary's max is the signal for N+1 regressions: a route whose
+ * maximum climbs with the size of the data is loading rows one by one.
+ * Requests above {@link LatencyMetricsProperties#getQueryWarnThreshold()}
+ * are logged and counted in {@code db.queries.per.request.exceeded}.
+ * Requests that run no statements (static files, redirects) are skipped.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final LatencyMetricsProperties properties;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, LatencyMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, QueryCountInspector.end());
+        }
+    }
+
+    private void record(HttpServletRequest request, int queries) {
+        if (queries == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("db.queries.per.request")
+                .description("SQL statements run while handling one request")
+                .baseUnit("queries")
+                .tag("uri", uri)
+                .tag("method", request.getMethod())
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                .register(meterRegistry)
+                .record(queries);
+
+        if (queries > properties.getQueryWarnThreshold()) {
+            Counter.builder("db.queries.per.request.exceeded")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} ran {} SQL statements (threshold {})", request.getMethod(), uri, queries,
+                    properties.getQueryWarnThreshold());
+        }
+    }
+}
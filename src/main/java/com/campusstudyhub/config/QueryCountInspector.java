@@ -0,0 +1,52 @@
+package com.campusstudyhub.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while
+ * a count is open. {@link QueryCountFilter} opens one per request.
+ *
+ * Statements are passed through unchanged. Queries issued on other threads
+ * ({@code @Async} work) or through plain JDBC are not counted.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    /**
+     * Start counting on this thread, discarding any count already open.
+     */
+    public static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Stop counting on this thread and return the statements seen since
+     * {@link #begin()}, or 0 if no count was open.
+     */
+    public static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,113 @@
+package com.campusstudyhub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to read replicas when
+ * {@code app.datasource.replicas.enabled=true}.
+ *
+ * The application's {@code dataSource} bean, whether the plain pool or the
+ * {@link TenantRoutingDataSource}, becomes the primary of a
+ * {@link ReplicaRoutingDataSource}. Each replica gets a read-only Hikari
+ * pool named {@code replica-<name>}, guarded like the primary when
+ * {@code app.datasource.guard.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    @Bean
+    public static BeanPostProcessor replicaRoutingPostProcessor(Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+                    return bean;
+                }
+                Binder binder = Binder.get(environment);
+                ReplicaProperties properties = binder.bind("app.datasource.replicas", ReplicaProperties.class)
+                        .orElseGet(ReplicaProperties::new);
+                boolean guardEnabled = binder.bind("app.datasource.guard.enabled", Boolean.class).orElse(false);
+                Duration guardMaxWait = binder.bind("app.datasource.guard.max-wait", Duration.class)
+                        .orElse(Duration.ofSeconds(5));
+                MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+
+                Map<String, DataSource> replicas = new LinkedHashMap<>();
+                properties.getNodes().forEach((name, node) -> {
+                    HikariDataSource pool = createPool(name, node, environment, registry);
+                    replicas.put(name, guardEnabled
+                            ? new GuardedDataSource(pool, pool.getPoolName(), pool.getMaximumPoolSize(),
+                                    guardMaxWait, registry)
+                            : pool);
+                });
+
+                ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas,
+                        properties.getMaxLag(), properties.getReadYourWritesWindow(), properties.getLagQuery(),
+                        registry);
+                routing.start(properties.getHealthCheckInterval());
+                log.info("Read-only transactions routed to replicas {}", replicas.keySet());
+                return new LazyRoutingDataSource(routing);
+            }
+        };
+    }
+
+    private static HikariDataSource createPool(String name, ReplicaProperties.Node node, Environment environment,
+            MeterRegistry registry) {
+        Assert.hasText(node.getUrl(), "app.datasource.replicas.nodes." + name + ".url is required");
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica-" + name);
+        pool.setJdbcUrl(node.getUrl());
+        pool.setUsername(node.getUsername() != null ? node.getUsername()
+                : environment.getProperty("spring.datasource.username"));
+        pool.setPassword(node.getPassword() != null ? node.getPassword()
+                : environment.getProperty("spring.datasource.password"));
+        String driver = environment.getProperty("spring.datasource.driver-class-name");
+        if (driver != null) {
+            pool.setDriverClassName(driver);
+        }
+        pool.setReadOnly(true);
+        pool.setMaximumPoolSize(node.getMaximumPoolSize());
+        pool.setMinimumIdle(node.getMinimumIdle());
+        pool.setConnectionTimeout(node.getConnectionTimeout().toMillis());
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
+
+    /**
+     * Defers picking a pool until the first statement, by which time the
+     * transaction's read-only flag is known, and closes the pools on shutdown.
+     */
+    static class LazyRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        LazyRoutingDataSource(ReplicaRoutingDataSource routing) {
+            super(routing);
+        }
+
+        @Override
+        public void close() throws Exception {
+            ((ReplicaRoutingDataSource) obtainTargetDataSource()).close();
+        }
+    }
+}
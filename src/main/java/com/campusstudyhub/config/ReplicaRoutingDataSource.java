@@ -0,0 +1,286 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to read replicas and everything else to the
+ * primary.
+ *
+ * Replicas are used round-robin. A background check measures each replica's
+ * replication lag and takes it out of rotation while it is unreachable or
+ * behind by more than {@code maxLag}; a replica that refuses a connection is
+ * taken out immediately and the read falls back to the primary. After a user
+ * commits a write, their reads stay on the primary for
+ * {@code readYourWritesWindow} so they see their own change. That window is
+ * tracked per instance, so it relies on the load balancer keeping a user on
+ * the same node for a few seconds.
+ *
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the transaction's
+ * read-only flag is only set after the transaction manager asks for a
+ * connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long maxLagMillis;
+    private final long stickyNanos;
+    private final String lagQuery;
+    private final MeterRegistry registry;
+    private ScheduledExecutorService healthChecks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas,
+            Duration maxLag, Duration readYourWritesWindow, String lagQuery, MeterRegistry registry) {
+        this.primary = primary;
+        this.maxLagMillis = maxLag.toMillis();
+        this.stickyNanos = readYourWritesWindow.toNanos();
+        this.lagQuery = lagQuery;
+        this.registry = registry;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource, registry)));
+    }
+
+    /**
+     * Check every replica now, then again every {@code interval} in the
+     * background.
+     */
+    public void start(Duration interval) {
+        checkReplicas();
+        healthChecks = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = route();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.eject("connection failed: " + e.getMessage());
+            replica.unavailable.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * The replica for the current connection request, or {@code null} for the
+     * primary.
+     */
+    private Replica route() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit(user);
+            count("primary", "write");
+            return null;
+        }
+        if (primary instanceof TenantRoutingDataSource tenants
+                && tenants.isDedicated(TenantContext.getCurrentTenant())) {
+            count("primary", "dedicated-tenant");
+            return null;
+        }
+        if (user != null && wroteRecently(user)) {
+            count("primary", "read-your-writes");
+            return null;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                count("replica", "read");
+                return replica;
+            }
+        }
+        count("primary", "no-replica");
+        return null;
+    }
+
+    private void rememberWriteOnCommit(String user) {
+        if (user == null || stickyNanos <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWrites.put(user, System.nanoTime());
+            }
+        });
+    }
+
+    private boolean wroteRecently(String user) {
+        Long lastWrite = lastWrites.get(user);
+        return lastWrite != null && System.nanoTime() - lastWrite < stickyNanos;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        String tenant = TenantContext.getCurrentTenant();
+        return (tenant != null ? tenant : TenantContext.DEFAULT_TENANT) + "/" + authentication.getName();
+    }
+
+    private void count(String target, String reason) {
+        Counter.builder("db.routing")
+                .description("Connections handed out, by target and routing reason")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Measure every replica's lag and update which ones receive reads.
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(5);
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    rs.next();
+                    replica.lagSeconds = rs.getDouble(1);
+                }
+                if (replica.lagSeconds * 1000 > maxLagMillis) {
+                    replica.eject(String.format("lagging %.1fs behind the primary", replica.lagSeconds));
+                } else {
+                    replica.admit();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.eject("health check failed: " + e.getMessage());
+            }
+        }
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= stickyNanos);
+    }
+
+    public boolean isHealthy(String replica) {
+        return replicas.stream().anyMatch(r -> r.name.equals(replica) && r.healthy);
+    }
+
+    public DataSource getPrimaryDataSource() {
+        return primary;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+        close(primary);
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        } else if (dataSource instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter unavailable;
+        private volatile boolean healthy;
+        private volatile double lagSeconds;
+
+        private Replica(String name, DataSource dataSource, MeterRegistry registry) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.unavailable = Counter.builder("db.replica.connection.failures")
+                    .description("Reads sent back to the primary because the replica refused a connection")
+                    .tag("replica", name)
+                    .register(registry);
+            Gauge.builder("db.replica.lag", this, r -> r.lagSeconds)
+                    .description("Replication delay measured by the last health check")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(registry);
+            Gauge.builder("db.replica.healthy", this, r -> r.healthy ? 1 : 0)
+                    .description("1 while the replica receives reads, 0 while it is out of rotation")
+                    .tag("replica", name)
+                    .register(registry);
+        }
+
+        private void eject(String reason) {
+            if (healthy) {
+                log.warn("Replica {} taken out of rotation: {}", name, reason);
+            } else {
+                log.debug("Replica {} still out of rotation: {}", name, reason);
+            }
+            healthy = false;
+        }
+
+        private void admit() {
+            if (!healthy) {
+                log.info("Replica {} back in rotation (lag {}s)", name, lagSeconds);
+            }
+            healthy = true;
+        }
+    }
+}
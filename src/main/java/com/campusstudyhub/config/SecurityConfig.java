@@ -1,19 +1,29 @@
 package com.campusstudyhub.config;
 
-import com.campusstudyhub.entity.User;
-import com.campusstudyhub.repository.UserRepository;
+import com.campusstudyhub.exception.PasswordHashingBusyException;
+import com.campusstudyhub.security.BoundedPasswordEncoder;
+import com.campusstudyhub.security.PasswordEncoders;
+import com.campusstudyhub.security.PasswordHashingProperties;
 import com.campusstudyhub.security.RateLimitingFilter;
+import com.campusstudyhub.security.TokenService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -23,55 +33,86 @@ import org.springframework.security.web.util.matcher.AnyRequestMatcher;
 import com.campusstudyhub.security.TenantFilter;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Security configuration for the application.
+ * Users are loaded through {@link com.campusstudyhub.security.CampusUserDetailsService}.
+ * The REST API under /api/** uses stateless bearer tokens; the Thymeleaf
+ * pages use form login with an HTTP session.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
-        private final UserRepository userRepository;
         private final RateLimitingFilter rateLimitingFilter;
         private final TenantFilter tenantFilter;
 
         @Value("${app.frontend.url:http://localhost:3000}")
         private String frontendUrl;
 
-        public SecurityConfig(UserRepository userRepository, RateLimitingFilter rateLimitingFilter,
-                        TenantFilter tenantFilter) {
-                this.userRepository = userRepository;
+        public SecurityConfig(RateLimitingFilter rateLimitingFilter, TenantFilter tenantFilter) {
                 this.rateLimitingFilter = rateLimitingFilter;
                 this.tenantFilter = tenantFilter;
         }
 
         /**
-         * BCrypt password encoder with strength 10.
+         * Password encoder running on a bounded hashing pool. Algorithm and
+         * cost come from app.security.password.*; older hashes are upgraded
+         * on login.
          */
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder(10);
+        public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties,
+                        MeterRegistry meterRegistry) {
+                int poolSize = properties.getPoolSize() > 0
+                                ? properties.getPoolSize()
+                                : Runtime.getRuntime().availableProcessors();
+                return new BoundedPasswordEncoder(PasswordEncoders.create(properties), poolSize,
+                                properties.getQueueCapacity(), properties.getMaxWait(), meterRegistry);
         }
 
         /**
-         * Custom UserDetailsService that loads users from the database.
+         * Form login failures caused by a saturated hashing pool get a 503
+         * instead of the "bad credentials" page.
          */
-        @Bean
-        public UserDetailsService userDetailsService() {
-                return username -> {
-                        User user = userRepository.findByEmail(username)
-                                        .orElseThrow(() -> new UsernameNotFoundException(
-                                                        "User not found: " + username));
-
-                        return new org.springframework.security.core.userdetails.User(
-                                        user.getEmail(),
-                                        user.getPassword(),
-                                        Collections.singletonList(new SimpleGrantedAuthority(user.getRole())));
+        private AuthenticationFailureHandler loginFailureHandler() {
+                AuthenticationFailureHandler credentialsFailure = new SimpleUrlAuthenticationFailureHandler(
+                                "/login?error=true");
+                return (request, response, exception) -> {
+                        if (exception instanceof PasswordHashingBusyException) {
+                                response.setHeader(HttpHeaders.RETRY_AFTER, "2");
+                                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                                return;
+                        }
+                        credentialsFailure.onAuthenticationFailure(request, response, exception);
                 };
         }
 
+        /**
+         * The rate limiting filter runs inside the security chain only.
+         * Without this, Spring Boot also registers the component as a servlet
+         * filter and every request consumes two tokens.
+         */
+        @Bean
+        public FilterRegistrationBean<RateLimitingFilter> rateLimitingFilterRegistration() {
+                FilterRegistrationBean<RateLimitingFilter> registration = new FilterRegistrationBean<>(
+                                rateLimitingFilter);
+                registration.setEnabled(false);
+                return registration;
+        }
+
+        /**
+         * The tenant filter also runs inside the security chain only, after
+         * the session's security context is loaded, so it can compare the
+         * requested tenant with the signed-in user's.
+         */
+        @Bean
+        public FilterRegistrationBean<TenantFilter> tenantFilterRegistration() {
+                FilterRegistrationBean<TenantFilter> registration = new FilterRegistrationBean<>(tenantFilter);
+                registration.setEnabled(false);
+                return registration;
+        }
+
         /**
          * CORS configuration to allow frontend and mobile origins.
          */
@@ -89,18 +130,74 @@ public class SecurityConfig {
         }
 
         /**
-         * Security filter chain configuration.
+         * Authentication manager backed by the application's user details
+         * service, used to issue API tokens.
+         */
+        @Bean
+        public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration)
+                        throws Exception {
+                return configuration.getAuthenticationManager();
+        }
+
+        /**
+         * Stateless chain for the REST API. Requests carry a signed bearer
+         * token that is verified locally; no HTTP session is created or read,
+         * so any node can serve any API request. The diagnostic actuator
+         * endpoints (JFR recordings, heap and thread dumps, the startup
+         * timeline) go through this chain too and are admin only.
+         */
+        @Bean
+        @Order(1)
+        public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http, TokenService tokenService)
+                        throws Exception {
+                http
+                                .securityMatcher("/api/**", "/actuator/jfr/**", "/actuator/heapdump",
+                                                "/actuator/threaddump", "/actuator/startup")
+                                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+
+                                // No cookies are involved, so there is nothing for CSRF to protect
+                                .csrf(csrf -> csrf.disable())
+                                .sessionManagement(session -> session
+                                                .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+
+                                .authorizeHttpRequests(auth -> auth
+                                                .requestMatchers("/api/v1/auth/token", "/api/v1/auth/refresh")
+                                                .permitAll()
+
+                                                // Admin API endpoints
+                                                .requestMatchers("/api/v1/bookings/*/approve",
+                                                                "/api/v1/bookings/*/reject")
+                                                .hasRole("ADMIN")
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
+                                                .anyRequest().authenticated())
+
+                                .oauth2ResourceServer(oauth2 -> oauth2
+                                                .jwt(jwt -> jwt
+                                                                .decoder(tokenService.getDecoder())
+                                                                .jwtAuthenticationConverter(
+                                                                                tokenService::toAuthentication)))
+
+                                .headers(this::securityHeaders);
+
+                http.addFilterBefore(tenantFilter, BearerTokenAuthenticationFilter.class);
+                // After the token is verified, so role-conditioned rules see the caller
+                http.addFilterAfter(rateLimitingFilter, BearerTokenAuthenticationFilter.class);
+
+                return http.build();
+        }
+
+        /**
+         * Security filter chain for the Thymeleaf pages (session based form
+         * login).
          */
         @Bean
+        @Order(2)
         public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
                 http
                                 // CORS
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
-                                // CSRF — disable for REST API endpoints (they use JSON, not forms)
-                                .csrf(csrf -> csrf
-                                                .ignoringRequestMatchers("/api/**"))
-
                                 // Authorization rules
                                 .authorizeHttpRequests(auth -> auth
                                                 // Public resources
@@ -112,15 +209,7 @@ public class SecurityConfig {
                                                 // Admin only — Thymeleaf admin pages
                                                 .requestMatchers("/admin/**").hasRole("ADMIN")
 
-                                                // Admin API endpoints
-                                                .requestMatchers("/api/v1/bookings/*/approve",
-                                                                "/api/v1/bookings/*/reject")
-                                                .hasRole("ADMIN")
-
-                                                // Authenticated API endpoints
-                                                .requestMatchers("/api/v1/**").authenticated()
-
-                                                // Authenticated Thymeleaf pages
+                                                                // Authenticated Thymeleaf pages
                                                 .requestMatchers("/bookings/**").authenticated()
                                                 .requestMatchers("/study-planner/**").authenticated()
                                                 .requestMatchers("/map", "/vr-walkthrough").authenticated()
@@ -139,7 +228,7 @@ public class SecurityConfig {
                                                 .usernameParameter("email")
                                                 .passwordParameter("password")
                                                 .defaultSuccessUrl("/dashboard", true)
-                                                .failureUrl("/login?error=true")
+                                                .failureHandler(loginFailureHandler())
                                                 .permitAll())
 
                                 // Logout configuration
@@ -155,19 +244,7 @@ public class SecurityConfig {
                                                 .accessDeniedPage("/error/403"))
 
                                 // Security Headers
-                                .headers(headers -> {
-                                        headers.contentSecurityPolicy(csp -> csp
-                                                        .policyDirectives(
-                                                                        "default-src 'self'; script-src 'self' 'unsafe-inline'; style-src 'self' 'unsafe-inline' https://cdn.jsdelivr.net; font-src 'self' https://cdn.jsdelivr.net; img-src 'self' data: https:; frame-src 'self' https://www.youtube.com;"));
-                                        headers.referrerPolicy(referrer -> referrer
-                                                        .policy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN));
-                                        headers.permissionsPolicy(permissions -> permissions
-                                                        .policy("geolocation=(), microphone=(), camera=()"));
-                                        headers.httpStrictTransportSecurity(hsts -> hsts
-                                                        .includeSubDomains(true)
-                                                        .maxAgeInSeconds(31536000)
-                                                        .requestMatcher(AnyRequestMatcher.INSTANCE));
-                                });
+                                .headers(this::securityHeaders);
 
                 // Add Multi-tenant and Rate Limiting Filters
                 http.addFilterBefore(tenantFilter, UsernamePasswordAuthenticationFilter.class);
@@ -175,4 +252,18 @@ public class SecurityConfig {
 
                 return http.build();
         }
+
+        private void securityHeaders(HeadersConfigurer<HttpSecurity> headers) {
+                headers.contentSecurityPolicy(csp -> csp
+                                .policyDirectives(
+                                                "default-src 'self'; script-src 'self' 'unsafe-inline'; style-src 'self' 'unsafe-inline' https://cdn.jsdelivr.net; font-src 'self' https://cdn.jsdelivr.net; img-src 'self' data: https:; frame-src 'self' https://www.youtube.com;"));
+                headers.referrerPolicy(referrer -> referrer
+                                .policy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN));
+                headers.permissionsPolicy(permissions -> permissions
+                                .policy("geolocation=(), microphone=(), camera=()"));
+                headers.httpStrictTransportSecurity(hsts -> hsts
+                                .includeSubDomains(true)
+                                .maxAgeInSeconds(31536000)
+                                .requestMatcher(AnyRequestMatcher.INSTANCE));
+        }
 }
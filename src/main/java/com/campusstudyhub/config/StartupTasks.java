@@ -0,0 +1,81 @@
+package com.campusstudyhub.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs non-critical startup work: seeding, Firebase and the catalog warm-up.
+ *
+ * By default a task runs straight away on the caller's thread, as it always
+ * has. With {@code app.startup.defer-initialization=true} (the
+ * {@code faststart} profile), tasks are held until the application reports
+ * ready. They then run one at a time, in the order they were submitted, on a
+ * background thread. A deferred task that fails is logged and does not stop
+ * the application.
+ */
+@Component
+public class StartupTasks {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTasks.class);
+
+    private final boolean deferred;
+    private final List<Runnable> pending = new ArrayList<>();
+    private ExecutorService executor;
+
+    public StartupTasks(@Value("${app.startup.defer-initialization:false}") boolean deferred) {
+        this.deferred = deferred;
+    }
+
+    public void run(String name, Runnable task) {
+        if (!deferred) {
+            task.run();
+            return;
+        }
+        Runnable timed = () -> runDeferred(name, task);
+        synchronized (this) {
+            if (executor == null) {
+                pending.add(timed);
+                return;
+            }
+            executor.execute(timed);
+        }
+    }
+
+    @EventListener
+    public synchronized void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+        if (!deferred || executor != null || event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("startup-tasks").factory());
+        pending.forEach(executor::execute);
+        pending.clear();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runDeferred(String name, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+            log.info("{} finished in {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("{} failed", name, e);
+        }
+    }
+}
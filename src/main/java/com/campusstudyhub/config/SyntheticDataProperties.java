@@ -0,0 +1,175 @@
+package com.campusstudyhub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes for the synthetic dataset, loaded from {@code app.dataloader.synthetic.*}.
+ *
+ * Counts are totals across all tenants. The first tenant is always
+ * {@code default}; further tenants are named {@code synthetic-2},
+ * {@code synthetic-3} and so on. {@code zipfExponent} sets how strongly
+ * bookings pile onto popular rooms and notes, papers and events onto
+ * popular subjects and users.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.dataloader.synthetic")
+public class SyntheticDataProperties {
+
+    private boolean enabled = false;
+
+    private int tenants = 1;
+    private int users = 1_000;
+    private int subjects = 200;
+    private int notes = 5_000;
+    private int papers = 2_000;
+    private int rooms = 50;
+    private int bookings = 100_000;
+    private int tasks = 100_000;
+    private int analyticsEvents = 1_000_000;
+
+    private double zipfExponent = 1.1;
+
+    /** Password for every generated user */
+    private String password = "synthetic123";
+
+    /** Worker threads, each with its own connection; 0 means one per core */
+    private int threads = 0;
+
+    /** Rows per JDBC batch */
+    private int batchSize = 1_000;
+
+    /** Rows per worker task, committed as one transaction */
+    private int chunkSize = 50_000;
+
+    /** Random seed, so the same settings produce the same dataset */
+    private long seed = 42;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTenants() {
+        return tenants;
+    }
+
+    public void setTenants(int tenants) {
+        this.tenants = tenants;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    public int getSubjects() {
+        return subjects;
+    }
+
+    public void setSubjects(int subjects) {
+        this.subjects = subjects;
+    }
+
+    public int getNotes() {
+        return notes;
+    }
+
+    public void setNotes(int notes) {
+        this.notes = notes;
+    }
+
+    public int getPapers() {
+        return papers;
+    }
+
+    public void setPapers(int papers) {
+        this.papers = papers;
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    public void setRooms(int rooms) {
+        this.rooms = rooms;
+    }
+
+    public int getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(int bookings) {
+        this.bookings = bookings;
+    }
+
+    public int getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(int tasks) {
+        this.tasks = tasks;
+    }
+
+    public int getAnalyticsEvents() {
+        return analyticsEvents;
+    }
+
+    public void setAnalyticsEvents(int analyticsEvents) {
+        this.analyticsEvents = analyticsEvents;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public void setZipfExponent(double zipfExponent) {
+        this.zipfExponent = zipfExponent;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
@@ -0,0 +1,141 @@
+package com.campusstudyhub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Placement of tenants, loaded from {@code app.tenancy.*}.
+ *
+ * Every tenant lives in the shared database, separated by {@code tenant_id},
+ * unless it is listed under {@code dedicated}. A dedicated tenant gets its
+ * own connection pool against either its own database ({@code url}) or its
+ * own schema in the shared database ({@code schema}). Dedicated placement
+ * only takes effect with {@code routing-enabled=true}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.tenancy")
+public class TenancyProperties {
+
+    private boolean routingEnabled = false;
+
+    /** How many tenant databases are migrated at once during startup */
+    private int migrationParallelism = 4;
+
+    private String migrationLocations = "classpath:db/migration";
+
+    private Map<String, Dedicated> dedicated = new LinkedHashMap<>();
+
+    public boolean isRoutingEnabled() {
+        return routingEnabled;
+    }
+
+    public void setRoutingEnabled(boolean routingEnabled) {
+        this.routingEnabled = routingEnabled;
+    }
+
+    public int getMigrationParallelism() {
+        return migrationParallelism;
+    }
+
+    public void setMigrationParallelism(int migrationParallelism) {
+        this.migrationParallelism = migrationParallelism;
+    }
+
+    public String getMigrationLocations() {
+        return migrationLocations;
+    }
+
+    public void setMigrationLocations(String migrationLocations) {
+        this.migrationLocations = migrationLocations;
+    }
+
+    public Map<String, Dedicated> getDedicated() {
+        return dedicated;
+    }
+
+    public void setDedicated(Map<String, Dedicated> dedicated) {
+        this.dedicated = dedicated;
+    }
+
+    /**
+     * Connection settings for one dedicated tenant. Unset url, username and
+     * password fall back to the shared {@code spring.datasource.*} values.
+     */
+    public static class Dedicated {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /** Schema holding this tenant's tables, or empty for the database default */
+        private String schema;
+
+        private int maximumPoolSize = 10;
+
+        private int minimumIdle = 2;
+
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getSchema() {
+            return schema;
+        }
+
+        public void setSchema(String schema) {
+            this.schema = schema;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+
+        public int getMinimumIdle() {
+            return minimumIdle;
+        }
+
+        public void setMinimumIdle(int minimumIdle) {
+            this.minimumIdle = minimumIdle;
+        }
+
+        public Duration getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.campusstudyhub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the single application data source with a {@link TenantRoutingDataSource}
+ * when {@code app.tenancy.routing-enabled=true}.
+ *
+ * The shared pool keeps its {@code spring.datasource.*} settings. Each tenant
+ * under {@code app.tenancy.dedicated} gets its own Hikari pool, named
+ * {@code tenant-<id>} in the {@code hikaricp.*} metrics, and is migrated
+ * before the application starts using it. With
+ * {@code app.datasource.guard.enabled} each pool is wrapped in a
+ * {@link GuardedDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tenancy", name = "routing-enabled", havingValue = "true")
+public class TenantDataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantDataSourceConfig.class);
+
+    @Bean
+    @Primary
+    public TenantRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+            TenancyProperties tenancyProperties,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.datasource.guard.enabled:false}") boolean guardEnabled,
+            @Value("${app.datasource.guard.max-wait:5s}") Duration guardMaxWait) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+
+        HikariDataSource shared = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(shared));
+        shared.setPoolName("shared");
+        bindMetrics(shared, registry);
+
+        Map<String, DataSource> dedicated = new LinkedHashMap<>();
+        Map<String, String> schemas = new LinkedHashMap<>();
+        tenancyProperties.getDedicated().forEach((tenant, settings) -> {
+            dedicated.put(tenant, createPool(tenant, settings, shared, registry));
+            if (StringUtils.hasText(settings.getSchema())) {
+                schemas.put(tenant, settings.getSchema());
+            }
+        });
+
+        new TenantMigrationRunner(tenancyProperties.getMigrationLocations(),
+                tenancyProperties.getMigrationParallelism()).migrate(dedicated, schemas);
+
+        log.info("Tenant routing enabled; dedicated tenants: {}", dedicated.keySet());
+        if (!guardEnabled) {
+            return new TenantRoutingDataSource(shared, dedicated);
+        }
+
+        MeterRegistry guardRegistry = registry != null ? registry : Metrics.globalRegistry;
+        Map<String, DataSource> guarded = new LinkedHashMap<>();
+        dedicated.forEach((tenant, pool) -> guarded.put(tenant, guard((HikariDataSource) pool, guardMaxWait,
+                guardRegistry)));
+        return new TenantRoutingDataSource(guard(shared, guardMaxWait, guardRegistry), guarded);
+    }
+
+    private HikariDataSource createPool(String tenant, TenancyProperties.Dedicated settings,
+            HikariDataSource shared, MeterRegistry registry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("tenant-" + tenant);
+        pool.setJdbcUrl(StringUtils.hasText(settings.getUrl()) ? settings.getUrl() : shared.getJdbcUrl());
+        pool.setUsername(settings.getUsername() != null ? settings.getUsername() : shared.getUsername());
+        pool.setPassword(settings.getPassword() != null ? settings.getPassword() : shared.getPassword());
+        if (shared.getDriverClassName() != null) {
+            pool.setDriverClassName(shared.getDriverClassName());
+        }
+        if (StringUtils.hasText(settings.getSchema())) {
+            pool.setSchema(settings.getSchema());
+        }
+        pool.setMaximumPoolSize(settings.getMaximumPoolSize());
+        pool.setMinimumIdle(settings.getMinimumIdle());
+        pool.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+        bindMetrics(pool, registry);
+        return pool;
+    }
+
+    private static DataSource guard(HikariDataSource pool, Duration maxWait, MeterRegistry registry) {
+        return new GuardedDataSource(pool, pool.getPoolName(), pool.getMaximumPoolSize(), maxWait, registry);
+    }
+
+    private static void bindMetrics(HikariDataSource pool, MeterRegistry registry) {
+        if (registry != null) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+    }
+}
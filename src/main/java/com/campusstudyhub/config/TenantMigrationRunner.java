@@ -0,0 +1,98 @@
+package com.campusstudyhub.config;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Brings every dedicated tenant database up to the latest migration.
+ *
+ * Tenants are migrated in parallel, bounded by
+ * {@code app.tenancy.migration-parallelism}, and startup fails if any of them
+ * cannot be migrated rather than serving a tenant from a stale schema.
+ */
+public class TenantMigrationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantMigrationRunner.class);
+
+    private final String[] locations;
+    private final int parallelism;
+
+    public TenantMigrationRunner(String locations, int parallelism) {
+        this.locations = StringUtils.commaDelimitedListToStringArray(locations);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Migrate each tenant's data source, creating its schema first when one is
+     * given.
+     *
+     * @param dataSources data source per tenant ID
+     * @param schemas     schema per tenant ID; tenants without one use the database default
+     */
+    public void migrate(Map<String, DataSource> dataSources, Map<String, String> schemas) {
+        if (dataSources.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, dataSources.size()), r -> {
+            Thread thread = new Thread(r, "tenant-migration-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<String> tenants = new ArrayList<>(dataSources.keySet());
+            List<Future<Integer>> results = new ArrayList<>();
+            for (String tenant : tenants) {
+                results.add(executor.submit(() -> migrate(tenant, dataSources.get(tenant), schemas.get(tenant))));
+            }
+
+            List<String> failed = new ArrayList<>();
+            for (int i = 0; i < tenants.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (ExecutionException e) {
+                    log.error("Migration failed for tenant {}", tenants.get(i), e.getCause());
+                    failed.add(tenants.get(i));
+                }
+            }
+            if (!failed.isEmpty()) {
+                throw new IllegalStateException("Database migration failed for tenants " + failed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while migrating tenant databases", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int migrate(String tenant, DataSource dataSource, String schema) {
+        var configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations(locations)
+                .mixed(true);
+        if (StringUtils.hasText(schema)) {
+            configuration.schemas(schema);
+        }
+
+        long start = System.nanoTime();
+        int applied = configuration.load().migrate().migrationsExecuted;
+        log.info("Tenant {}: applied {} migration(s) in {} ms", tenant, applied,
+                (System.nanoTime() - start) / 1_000_000);
+        return applied;
+    }
+}
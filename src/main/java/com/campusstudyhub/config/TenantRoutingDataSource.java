@@ -0,0 +1,65 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.TenantContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hands out connections from the current tenant's pool.
+ *
+ * Dedicated tenants are looked up by {@link TenantContext} in a map built at
+ * startup; every other tenant, and any code running outside a request, gets
+ * the shared pool. The lookup happens whenever a connection is acquired, so
+ * a transaction stays on the pool it started on.
+ */
+public class TenantRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private final DataSource shared;
+    private final Map<String, DataSource> dedicated;
+
+    public TenantRoutingDataSource(DataSource shared, Map<String, ? extends DataSource> dedicated) {
+        this.shared = shared;
+        this.dedicated = new LinkedHashMap<>(dedicated);
+        setDefaultTargetDataSource(shared);
+        setTargetDataSources(new HashMap<>(dedicated));
+        setLenientFallback(true);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TenantContext.getCurrentTenant();
+    }
+
+    public boolean isDedicated(String tenantId) {
+        return dedicated.containsKey(tenantId);
+    }
+
+    public Set<String> getDedicatedTenants() {
+        return dedicated.keySet();
+    }
+
+    public DataSource getSharedDataSource() {
+        return shared;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource dataSource : dedicated.values()) {
+            close(dataSource);
+        }
+        close(shared);
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
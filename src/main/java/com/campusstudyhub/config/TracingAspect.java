@@ -0,0 +1,99 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.AuthenticatedUser;
+import com.campusstudyhub.security.TenantContext;
+import com.campusstudyhub.service.NotificationService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.Repository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Opens a span for every call into controllers, services (including the
+ * notification senders), repositories and file storage, so a slow request's
+ * trace shows which layer the time went to. JDBC statements appear as child
+ * spans of the repository call.
+ *
+ * Spans are named {@code Class.method} and tagged with the layer, tenant
+ * and user. On entry to a controller the request's server span gets the
+ * tenant and user too, since they are only known after authentication.
+ * The aspect is only registered while {@code management.tracing.enabled} is
+ * on ({@code TRACING_ENABLED}), so calls pay nothing for spans nobody exports.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "management.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingAspect {
+
+    static final String OBSERVATION_NAME = "app.span";
+
+    private final ObservationRegistry observationRegistry;
+
+    public TracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("@within(org.springframework.stereotype.Controller) "
+            + "|| @within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        Observation request = observationRegistry.getCurrentObservation();
+        if (request != null) {
+            tagCaller(request);
+        }
+        return observe(joinPoint, "controller");
+    }
+
+    @Around("within(com.campusstudyhub.service..*)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, joinPoint.getTarget() instanceof NotificationService ? "notification" : "service");
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "repository");
+    }
+
+    @Around("within(com.campusstudyhub.util.FileStorageUtil)")
+    public Object traceStorage(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(joinPoint, "storage");
+    }
+
+    private Object observe(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(typeName(joinPoint) + "." + joinPoint.getSignature().getName())
+                .lowCardinalityKeyValue("layer", layer);
+        tagCaller(observation);
+        return observation.observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+
+    private static void tagCaller(Observation observation) {
+        String tenant = TenantContext.getCurrentTenant();
+        if (tenant != null) {
+            observation.highCardinalityKeyValue("tenant.id", tenant);
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            observation.highCardinalityKeyValue("user.id", String.valueOf(user.getId()));
+        }
+    }
+
+    private static String typeName(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getTarget();
+        if (target instanceof Repository<?, ?>) {
+            // Repository proxies: name the interface, not the proxy class
+            for (Class<?> type : ClassUtils.getAllInterfacesForClass(target.getClass())) {
+                if (Repository.class.isAssignableFrom(type) && type.getName().startsWith("com.campusstudyhub")) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(target).getSimpleName();
+    }
+}
@@ -1,27 +1,50 @@
 package com.campusstudyhub.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
 
 /**
  * Web MVC configuration for static resources and view controllers.
+ *
+ * Static files are served under content-hash URLs ({@code /css/layout-<md5>.css}),
+ * so they can be cached for a year as immutable; a changed file gets a new
+ * URL. Templates must link them with {@code th:href="@{/css/...}"} for the
+ * {@link ResourceUrlEncodingFilter} to rewrite the URL. The {@code .br} and
+ * {@code .gz} variants written at build time are served to clients that
+ * accept them.
  */
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private static final CacheControl STATIC_CACHE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Static resources
-        registry.addResourceHandler("/css/**")
-                .addResourceLocations("classpath:/static/css/");
-
-        registry.addResourceHandler("/js/**")
-                .addResourceLocations("classpath:/static/js/");
+        addStaticResources(registry, "/css/**", "classpath:/static/css/");
+        addStaticResources(registry, "/js/**", "classpath:/static/js/");
+        addStaticResources(registry, "/images/**", "classpath:/static/images/");
+    }
 
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("classpath:/static/images/");
+    private static void addStaticResources(ResourceHandlerRegistry registry, String pattern, String location) {
+        registry.addResourceHandler(pattern)
+                .addResourceLocations(location)
+                .setCacheControl(STATIC_CACHE)
+                .resourceChain(true)
+                // Looks for a .br/.gz variant of whatever the version resolver finds
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
     }
 
     @Override
@@ -29,4 +52,13 @@ public class WebMvcConfig implements WebMvcConfigurer {
         // Redirect root to dashboard
         registry.addRedirectViewController("/", "/dashboard");
     }
+
+    /**
+     * Rewrites static resource URLs in rendered pages to their fingerprinted
+     * form.
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
 }
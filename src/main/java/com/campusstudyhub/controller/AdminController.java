@@ -9,7 +9,8 @@ import com.campusstudyhub.service.BookingService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.Authentication;
+import com.campusstudyhub.security.AuthenticatedUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -157,10 +158,10 @@ public class AdminController {
     @PostMapping("/notes")
     public String uploadNote(@ModelAttribute ResourceUploadDto uploadDto,
             @RequestParam("file") MultipartFile file,
-            Authentication auth,
+            @AuthenticationPrincipal AuthenticatedUser user,
             RedirectAttributes redirectAttributes) {
         try {
-            resourceService.uploadNote(uploadDto, file, auth.getName());
+            resourceService.uploadNote(uploadDto, file, user);
             redirectAttributes.addFlashAttribute("success", "Note uploaded successfully!");
         } catch (IllegalArgumentException e) {
             log.warn("Invalid file upload: {}", e.getMessage());
@@ -214,10 +215,10 @@ public class AdminController {
     @PostMapping("/papers")
     public String uploadPaper(@ModelAttribute ResourceUploadDto uploadDto,
             @RequestParam("file") MultipartFile file,
-            Authentication auth,
+            @AuthenticationPrincipal AuthenticatedUser user,
             RedirectAttributes redirectAttributes) {
         try {
-            resourceService.uploadPaper(uploadDto, file, auth.getName());
+            resourceService.uploadPaper(uploadDto, file, user);
             redirectAttributes.addFlashAttribute("success", "Question paper uploaded successfully!");
         } catch (IllegalArgumentException e) {
             log.warn("Invalid file upload: {}", e.getMessage());
@@ -271,7 +272,7 @@ public class AdminController {
     @PostMapping("/videos")
     public String addVideo(@Valid @ModelAttribute("videoDto") VideoLinkDto videoDto,
             BindingResult result,
-            Authentication auth,
+            @AuthenticationPrincipal AuthenticatedUser user,
             RedirectAttributes redirectAttributes,
             Model model) {
         if (result.hasErrors()) {
@@ -280,7 +281,7 @@ public class AdminController {
         }
 
         try {
-            resourceService.addVideoLink(videoDto, auth.getName());
+            resourceService.addVideoLink(videoDto, user);
             redirectAttributes.addFlashAttribute("success", "Video link added successfully!");
         } catch (Exception e) {
             log.error("Error adding video", e);
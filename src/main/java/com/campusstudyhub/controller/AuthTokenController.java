@@ -0,0 +1,72 @@
+package com.campusstudyhub.controller;
+
+import com.campusstudyhub.dto.RefreshTokenRequest;
+import com.campusstudyhub.dto.TokenRequest;
+import com.campusstudyhub.exception.PasswordHashingBusyException;
+import com.campusstudyhub.security.AuthenticatedUser;
+import com.campusstudyhub.security.TokenService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST API for obtaining and refreshing bearer tokens (mobile and API clients).
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+public class AuthTokenController {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenController.class);
+
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+
+    public AuthTokenController(AuthenticationManager authenticationManager, TokenService tokenService) {
+        this.authenticationManager = authenticationManager;
+        this.tokenService = tokenService;
+    }
+
+    /**
+     * Exchange email and password for an access and refresh token.
+     */
+    @PostMapping("/token")
+    public ResponseEntity<?> issueToken(@Valid @RequestBody TokenRequest request) {
+        try {
+            Authentication auth = authenticationManager.authenticate(
+                    UsernamePasswordAuthenticationToken.unauthenticated(request.getEmail(), request.getPassword()));
+            return ResponseEntity.ok(tokenService.issue((AuthenticatedUser) auth.getPrincipal()));
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "2")
+                    .body(Map.of("error", "Service busy, please retry"));
+        } catch (AuthenticationException e) {
+            log.debug("Token request rejected for {}: {}", request.getEmail(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid email or password"));
+        }
+    }
+
+    /**
+     * Exchange a refresh token for a new token pair.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            return ResponseEntity.ok(tokenService.refresh(request.getRefreshToken()));
+        } catch (AuthenticationException e) {
+            log.debug("Refresh rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", "Invalid or expired refresh token"));
+        }
+    }
+}
@@ -6,8 +6,8 @@ import com.campusstudyhub.service.BookingService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import com.campusstudyhub.security.AuthenticatedUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -31,9 +31,9 @@ public class BookingController {
      */
     @PostMapping
     public ResponseEntity<?> createBooking(@Valid @RequestBody BookingRequest request,
-            Authentication auth) {
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            BookingResponse response = bookingService.requestBooking(request, auth.getName());
+            BookingResponse response = bookingService.requestBooking(request, user);
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -44,12 +44,10 @@ public class BookingController {
      * List bookings. Admin sees all; students see only their own.
      */
     @GetMapping
-    public ResponseEntity<List<BookingResponse>> listBookings(Authentication auth) {
-        boolean isAdmin = auth.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
-        List<BookingResponse> bookings = isAdmin
+    public ResponseEntity<List<BookingResponse>> listBookings(@AuthenticationPrincipal AuthenticatedUser user) {
+        List<BookingResponse> bookings = user.isAdmin()
                 ? bookingService.listAll()
-                : bookingService.listByUserEmail(auth.getName());
+                : bookingService.listByUser(user);
         return ResponseEntity.ok(bookings);
     }
 
@@ -97,9 +95,10 @@ public class BookingController {
      * Cancel a booking (creator or admin).
      */
     @PutMapping("/{id}/cancel")
-    public ResponseEntity<?> cancelBooking(@PathVariable Long id, Authentication auth) {
+    public ResponseEntity<?> cancelBooking(@PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
         try {
-            BookingResponse response = bookingService.cancelBooking(id, auth.getName());
+            BookingResponse response = bookingService.cancelBooking(id, user);
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
@@ -5,7 +5,8 @@ import com.campusstudyhub.dto.BookingResponse;
 import com.campusstudyhub.service.BookingService;
 import com.campusstudyhub.repository.RoomRepository;
 import jakarta.validation.Valid;
-import org.springframework.security.core.Authentication;
+import com.campusstudyhub.security.AuthenticatedUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -45,7 +46,7 @@ public class BookingViewController {
     @PostMapping("/new")
     public String submitBooking(@Valid @ModelAttribute("bookingRequest") BookingRequest request,
             BindingResult result,
-            Authentication auth,
+            @AuthenticationPrincipal AuthenticatedUser user,
             Model model,
             RedirectAttributes redirectAttributes) {
         if (result.hasErrors()) {
@@ -54,7 +55,7 @@ public class BookingViewController {
         }
 
         try {
-            bookingService.requestBooking(request, auth.getName());
+            bookingService.requestBooking(request, user);
             redirectAttributes.addFlashAttribute("success",
                     "Booking request submitted successfully! It is now pending admin approval.");
             return "redirect:/bookings/mine";
@@ -69,8 +70,8 @@ public class BookingViewController {
      * Show user's own bookings.
      */
     @GetMapping("/mine")
-    public String showMyBookings(Authentication auth, Model model) {
-        List<BookingResponse> bookings = bookingService.listByUserEmail(auth.getName());
+    public String showMyBookings(@AuthenticationPrincipal AuthenticatedUser user, Model model) {
+        List<BookingResponse> bookings = bookingService.listByUser(user);
         model.addAttribute("bookings", bookings);
         return "bookings/mine";
     }
@@ -80,10 +81,10 @@ public class BookingViewController {
      */
     @PostMapping("/{id}/cancel")
     public String cancelBooking(@PathVariable Long id,
-            Authentication auth,
+            @AuthenticationPrincipal AuthenticatedUser user,
             RedirectAttributes redirectAttributes) {
         try {
-            bookingService.cancelBooking(id, auth.getName());
+            bookingService.cancelBooking(id, user);
             redirectAttributes.addFlashAttribute("success", "Booking cancelled successfully.");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Failed to cancel booking: " + e.getMessage());
@@ -34,7 +34,7 @@ public class FileController {
      */
     @GetMapping("/notes/{id}/download")
     public ResponseEntity<Resource> downloadNote(@PathVariable Long id) {
-        log.info("Downloading note: {}", id);
+        log.debug("Downloading note: {}", id);
 
         NoteDto note = resourceService.getNote(id);
         Resource resource = resourceService.downloadNoteFile(id);
@@ -51,7 +51,7 @@ public class FileController {
      */
     @GetMapping("/papers/{id}/download")
     public ResponseEntity<Resource> downloadPaper(@PathVariable Long id) {
-        log.info("Downloading paper: {}", id);
+        log.debug("Downloading paper: {}", id);
 
         QuestionPaperDto paper = resourceService.getPaper(id);
         Resource resource = resourceService.downloadPaperFile(id);
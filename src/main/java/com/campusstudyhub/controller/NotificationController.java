@@ -1,11 +1,10 @@
 package com.campusstudyhub.controller;
 
-import com.campusstudyhub.entity.User;
 import com.campusstudyhub.entity.UserDeviceToken;
 import com.campusstudyhub.repository.UserDeviceTokenRepository;
-import com.campusstudyhub.repository.UserRepository;
+import com.campusstudyhub.security.AuthenticatedUser;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -18,18 +17,14 @@ import java.time.LocalDateTime;
 public class NotificationController {
 
     private final UserDeviceTokenRepository tokenRepository;
-    private final UserRepository userRepository;
 
-    public NotificationController(UserDeviceTokenRepository tokenRepository, UserRepository userRepository) {
+    public NotificationController(UserDeviceTokenRepository tokenRepository) {
         this.tokenRepository = tokenRepository;
-        this.userRepository = userRepository;
     }
 
     @PostMapping("/tokens")
-    public ResponseEntity<Void> registerToken(@RequestParam String token, Authentication auth) {
-        User user = userRepository.findByEmail(auth.getName())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
+    public ResponseEntity<Void> registerToken(@RequestParam String token,
+            @AuthenticationPrincipal AuthenticatedUser user) {
         tokenRepository.findByToken(token).ifPresentOrElse(
                 existing -> {
                     existing.setLastUsedAt(LocalDateTime.now());
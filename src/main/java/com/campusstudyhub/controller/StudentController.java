@@ -2,14 +2,13 @@ package com.campusstudyhub.controller;
 
 import com.campusstudyhub.dto.SubjectDto;
 import com.campusstudyhub.entity.Semester;
+import com.campusstudyhub.service.DashboardService;
 import com.campusstudyhub.service.ResourceService;
 import com.campusstudyhub.service.SubjectService;
-import com.campusstudyhub.service.BookingService;
-import com.campusstudyhub.service.StudyTaskService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import com.campusstudyhub.security.AuthenticatedUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,38 +27,30 @@ public class StudentController {
 
     private final SubjectService subjectService;
     private final ResourceService resourceService;
-    private final BookingService bookingService;
-    private final StudyTaskService taskService;
+    private final DashboardService dashboardService;
 
     public StudentController(SubjectService subjectService,
             ResourceService resourceService,
-            BookingService bookingService,
-            StudyTaskService taskService) {
+            DashboardService dashboardService) {
         this.subjectService = subjectService;
         this.resourceService = resourceService;
-        this.bookingService = bookingService;
-        this.taskService = taskService;
+        this.dashboardService = dashboardService;
     }
 
     /**
      * Display the dashboard.
      */
     @GetMapping("/dashboard")
-    public String dashboard(Authentication auth, Model model) {
-        String email = auth.getName();
-        log.debug("Showing dashboard for user: {}", email);
-
-        boolean isAdmin = auth.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
-        model.addAttribute("isAdmin", isAdmin);
-        model.addAttribute("userName", email);
-        model.addAttribute("semesters", subjectService.getAllSemesters());
-
-        // Add booking summary
-        model.addAttribute("myBookingsCount", bookingService.listByUserEmail(email).size());
-
-        // Add task summary
-        model.addAttribute("pendingTasksCount", taskService.countPendingTasks(email));
-        model.addAttribute("activeTasks", taskService.listActiveTasks(email));
+    public String dashboard(@AuthenticationPrincipal AuthenticatedUser user, Model model) {
+        log.debug("Showing dashboard for user: {}", user.getEmail());
+
+        DashboardService.Dashboard dashboard = dashboardService.getDashboard(user);
+        model.addAttribute("isAdmin", user.isAdmin());
+        model.addAttribute("userName", user.getEmail());
+        model.addAttribute("semesters", dashboard.semesters());
+        model.addAttribute("myBookingsCount", dashboard.bookingCount());
+        model.addAttribute("pendingTasksCount", dashboard.pendingTaskCount());
+        model.addAttribute("activeTasks", dashboard.activeTasks());
 
         return "dashboard";
     }
@@ -1,9 +1,11 @@
 package com.campusstudyhub.controller;
 
+import com.campusstudyhub.dto.TaskSummaryDto;
 import com.campusstudyhub.entity.StudyTask;
 import com.campusstudyhub.service.StudyTaskService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import com.campusstudyhub.security.AuthenticatedUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,23 +24,29 @@ public class StudyTaskController {
     }
 
     @GetMapping
-    public List<StudyTask> listTasks(Authentication auth) {
-        return taskService.listUserTasks(auth.getName());
+    public List<StudyTask> listTasks(@AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.listUserTasks(user);
+    }
+
+    @GetMapping("/summary")
+    public TaskSummaryDto summary(@AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.summarize(user);
     }
 
     @PostMapping
-    public StudyTask createTask(@RequestBody StudyTask task, Authentication auth) {
-        return taskService.createTask(task, auth.getName());
+    public StudyTask createTask(@RequestBody StudyTask task, @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.createTask(task, user);
     }
 
     @PatchMapping("/{id}/status")
-    public StudyTask updateStatus(@PathVariable Long id, @RequestParam String status, Authentication auth) {
-        return taskService.updateTaskStatus(id, status, auth.getName());
+    public StudyTask updateStatus(@PathVariable Long id, @RequestParam String status,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return taskService.updateTaskStatus(id, status, user);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id, Authentication auth) {
-        taskService.deleteTask(id, auth.getName());
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id, @AuthenticationPrincipal AuthenticatedUser user) {
+        taskService.deleteTask(id, user);
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,124 @@
+package com.campusstudyhub.dto;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DTO for the planner's task summary: counts per status, open tasks per
+ * priority, how many are overdue and which open task is due next.
+ */
+public class TaskSummaryDto {
+
+    private long total;
+    private Map<String, Long> byStatus = new LinkedHashMap<>();
+    private Map<String, Long> openByPriority = new LinkedHashMap<>();
+    private long overdue;
+    private NextDueTask nextDue;
+
+    public TaskSummaryDto() {
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<String, Long> getOpenByPriority() {
+        return openByPriority;
+    }
+
+    public void setOpenByPriority(Map<String, Long> openByPriority) {
+        this.openByPriority = openByPriority;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+
+    public NextDueTask getNextDue() {
+        return nextDue;
+    }
+
+    public void setNextDue(NextDueTask nextDue) {
+        this.nextDue = nextDue;
+    }
+
+    /**
+     * The open task with the earliest upcoming due date.
+     */
+    public static class NextDueTask {
+
+        private Long id;
+        private String title;
+        private String status;
+        private String priority;
+        private LocalDateTime dueDate;
+
+        public NextDueTask() {
+        }
+
+        public NextDueTask(Long id, String title, String status, String priority, LocalDateTime dueDate) {
+            this.id = id;
+            this.title = title;
+            this.status = status;
+            this.priority = priority;
+            this.dueDate = dueDate;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getPriority() {
+            return priority;
+        }
+
+        public void setPriority(String priority) {
+            this.priority = priority;
+        }
+
+        public LocalDateTime getDueDate() {
+            return dueDate;
+        }
+
+        public void setDueDate(LocalDateTime dueDate) {
+            this.dueDate = dueDate;
+        }
+    }
+}
@@ -14,7 +14,8 @@ import java.util.Map;
 public class AnalyticsEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analytics_events_seq")
+    @SequenceGenerator(name = "analytics_events_seq", sequenceName = "analytics_events_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "event_type", nullable = false)
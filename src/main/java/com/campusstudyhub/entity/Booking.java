@@ -3,17 +3,23 @@ package com.campusstudyhub.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
 /**
  * Booking entity representing a room reservation request.
  */
 @Entity
-@Table(name = "bookings")
-public class Booking {
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_tenant_room_start", columnList = "tenant_id, room_id, start_at"),
+        @Index(name = "idx_bookings_tenant_user", columnList = "tenant_id, user_id"),
+        @Index(name = "idx_bookings_tenant_status", columnList = "tenant_id, status")
+})
+public class Booking implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_id_seq", allocationSize = 50)
     private Long id;
 
     /** The user who created the booking (references users.id) */
@@ -43,8 +49,10 @@ public class Booking {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "tenant_id", nullable = false)
-    private String tenantId = "default";
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
 
     @PrePersist
     protected void onCreate() {
@@ -119,4 +127,8 @@ public class Booking {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
 }
@@ -2,17 +2,21 @@ package com.campusstudyhub.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
 /**
  * Note entity representing PDF notes uploaded for a subject.
  */
 @Entity
-@Table(name = "notes")
-public class Note {
+@Table(name = "notes", indexes = {
+        @Index(name = "idx_notes_tenant_subject", columnList = "tenant_id, subject_id, uploaded_at")
+})
+public class Note implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notes_seq")
+    @SequenceGenerator(name = "notes_seq", sequenceName = "notes_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Note title is required")
@@ -42,6 +46,11 @@ public class Note {
     @JoinColumn(name = "subject_id", nullable = false)
     private Subject subject;
 
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @PrePersist
     protected void onCreate() {
         this.uploadedAt = LocalDateTime.now();
@@ -134,4 +143,8 @@ public class Note {
     public void setSubject(Subject subject) {
         this.subject = subject;
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
 }
@@ -2,17 +2,21 @@ package com.campusstudyhub.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
 /**
  * QuestionPaper entity representing previous year question papers.
  */
 @Entity
-@Table(name = "question_papers")
-public class QuestionPaper {
+@Table(name = "question_papers", indexes = {
+        @Index(name = "idx_papers_tenant_subject", columnList = "tenant_id, subject_id")
+})
+public class QuestionPaper implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_papers_seq")
+    @SequenceGenerator(name = "question_papers_seq", sequenceName = "question_papers_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Question paper title is required")
@@ -45,6 +49,11 @@ public class QuestionPaper {
     @JoinColumn(name = "subject_id", nullable = false)
     private Subject subject;
 
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @PrePersist
     protected void onCreate() {
         this.uploadedAt = LocalDateTime.now();
@@ -146,4 +155,16 @@ public class QuestionPaper {
     public void setSubject(Subject subject) {
         this.subject = subject;
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Only needed outside a persistence context (e.g. tests); on insert the
+     * value must match the current tenant.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
 }
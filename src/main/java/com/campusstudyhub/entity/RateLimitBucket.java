@@ -0,0 +1,84 @@
+package com.campusstudyhub.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Shared token bucket used when rate limiting runs in distributed mode.
+ * One row per client key, locked with SELECT ... FOR UPDATE while tokens are
+ * taken so every replica sees the same remaining budget.
+ *
+ * The key is assigned, so the entity tells Spring Data whether it is new:
+ * a new bucket is persisted, and a concurrent insert of the same key fails on
+ * the primary key instead of being merged over the other node's row.
+ */
+@Entity
+@Table(name = "rate_limit_buckets")
+public class RateLimitBucket implements Persistable<String> {
+
+    @Id
+    @Column(name = "bucket_key", length = 200)
+    private String bucketKey;
+
+    @Column(nullable = false)
+    private long tokens;
+
+    /** Epoch millis of the last refill */
+    @Column(name = "refilled_at", nullable = false)
+    private long refilledAt;
+
+    @Transient
+    private boolean isNew;
+
+    // Constructors
+    public RateLimitBucket() {
+    }
+
+    public RateLimitBucket(String bucketKey, long tokens, long refilledAt) {
+        this.bucketKey = bucketKey;
+        this.tokens = tokens;
+        this.refilledAt = refilledAt;
+        this.isNew = true;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return bucketKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getters and Setters
+    public String getBucketKey() {
+        return bucketKey;
+    }
+
+    public void setBucketKey(String bucketKey) {
+        this.bucketKey = bucketKey;
+    }
+
+    public long getTokens() {
+        return tokens;
+    }
+
+    public void setTokens(long tokens) {
+        this.tokens = tokens;
+    }
+
+    public long getRefilledAt() {
+        return refilledAt;
+    }
+
+    public void setRefilledAt(long refilledAt) {
+        this.refilledAt = refilledAt;
+    }
+}
@@ -3,17 +3,21 @@ package com.campusstudyhub.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
 /**
  * Room entity representing bookable campus rooms.
  */
 @Entity
-@Table(name = "rooms")
-public class Room {
+@Table(name = "rooms", indexes = {
+        @Index(name = "idx_rooms_tenant_name", columnList = "tenant_id, name")
+})
+public class Room implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+    @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Room name is required")
@@ -43,8 +47,10 @@ public class Room {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "tenant_id", nullable = false)
-    private String tenantId = "default";
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
 
     @PrePersist
     protected void onCreate() {
@@ -135,4 +141,8 @@ public class Room {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
 }
@@ -3,6 +3,7 @@ package com.campusstudyhub.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.hibernate.annotations.TenantId;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,21 +11,29 @@ import java.util.List;
  * Semester entity representing academic semesters (1-8).
  */
 @Entity
-@Table(name = "semesters")
-public class Semester {
+@Table(name = "semesters", indexes = {
+        @Index(name = "uk_semesters_tenant_number", columnList = "tenant_id, number", unique = true)
+})
+public class Semester implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "semesters_seq")
+    @SequenceGenerator(name = "semesters_seq", sequenceName = "semesters_id_seq", allocationSize = 50)
     private Long id;
 
     @Min(value = 1, message = "Semester number must be at least 1")
     @Max(value = 8, message = "Semester number must be at most 8")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private Integer number;
 
     @Column(length = 100)
     private String name;
 
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @OneToMany(mappedBy = "semester", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Subject> subjects = new ArrayList<>();
 
@@ -84,4 +93,16 @@ public class Semester {
         subjects.remove(subject);
         subject.setSemester(null);
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Only needed outside a persistence context (e.g. tests); on insert the
+     * value must match the current tenant.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
 }
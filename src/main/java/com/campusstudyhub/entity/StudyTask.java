@@ -3,6 +3,8 @@ package com.campusstudyhub.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
 /**
@@ -10,13 +12,13 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "study_tasks", indexes = {
-        @Index(name = "idx_task_user", columnList = "user_id"),
-        @Index(name = "idx_task_status", columnList = "status")
+        @Index(name = "idx_tasks_tenant_user_status_due", columnList = "tenant_id, user_id, status, due_date")
 })
-public class StudyTask {
+public class StudyTask implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_tasks_seq")
+    @SequenceGenerator(name = "study_tasks_seq", sequenceName = "study_tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -49,6 +51,11 @@ public class StudyTask {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     public StudyTask() {
     }
 
@@ -126,4 +133,9 @@ public class StudyTask {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    @JsonIgnore
+    public String getTenantId() {
+        return tenantId;
+    }
 }
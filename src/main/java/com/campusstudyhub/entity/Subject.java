@@ -3,6 +3,7 @@ package com.campusstudyhub.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.TenantId;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,11 +11,14 @@ import java.util.List;
  * Subject entity representing a course within a semester.
  */
 @Entity
-@Table(name = "subjects")
-public class Subject {
+@Table(name = "subjects", indexes = {
+        @Index(name = "idx_subjects_tenant_semester", columnList = "tenant_id, semester_id")
+})
+public class Subject implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subjects_seq")
+    @SequenceGenerator(name = "subjects_seq", sequenceName = "subjects_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Subject name is required")
@@ -32,6 +36,11 @@ public class Subject {
     @JoinColumn(name = "semester_id", nullable = false)
     private Semester semester;
 
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @OneToMany(mappedBy = "subject", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Note> notes = new ArrayList<>();
 
@@ -136,4 +145,16 @@ public class Subject {
         videos.add(video);
         video.setSubject(this);
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Only needed outside a persistence context (e.g. tests); on insert the
+     * value must match the current tenant.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
 }
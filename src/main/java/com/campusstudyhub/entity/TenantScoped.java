@@ -0,0 +1,10 @@
+package com.campusstudyhub.entity;
+
+/**
+ * An entity whose rows belong to one tenant, through an
+ * {@link org.hibernate.annotations.TenantId} column.
+ */
+public interface TenantScoped {
+
+    String getTenantId();
+}
@@ -1,20 +1,26 @@
 package com.campusstudyhub.entity;
 
+import com.campusstudyhub.security.UserCacheEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
 
 /**
  * User entity representing both admin and student users.
  */
 @Entity
-@Table(name = "users")
-public class User {
+@EntityListeners(UserCacheEvictionListener.class)
+@Table(name = "users", indexes = {
+        @Index(name = "uk_users_tenant_email", columnList = "tenant_id, email", unique = true)
+})
+public class User implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Full name is required")
@@ -24,7 +30,7 @@ public class User {
 
     @NotBlank(message = "Email is required")
     @Email(message = "Please provide a valid email address")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     @NotBlank(message = "Password is required")
@@ -37,8 +43,10 @@ public class User {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(name = "tenant_id", nullable = false)
-    private String tenantId = "default";
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
 
     @PrePersist
     protected void onCreate() {
@@ -104,4 +112,16 @@ public class User {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Only needed outside a persistence context (e.g. tests); on insert the
+     * value must match the current tenant.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
 }
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class UserDeviceToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_device_tokens_seq")
+    @SequenceGenerator(name = "user_device_tokens_seq", sequenceName = "user_device_tokens_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
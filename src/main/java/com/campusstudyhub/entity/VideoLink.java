@@ -2,6 +2,7 @@ package com.campusstudyhub.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.TenantId;
 import org.hibernate.validator.constraints.URL;
 import java.time.LocalDateTime;
 
@@ -9,11 +10,14 @@ import java.time.LocalDateTime;
  * VideoLink entity representing curated YouTube video links for subjects.
  */
 @Entity
-@Table(name = "video_links")
-public class VideoLink {
+@Table(name = "video_links", indexes = {
+        @Index(name = "idx_videos_tenant_subject", columnList = "tenant_id, subject_id")
+})
+public class VideoLink implements TenantScoped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "video_links_seq")
+    @SequenceGenerator(name = "video_links_seq", sequenceName = "video_links_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Video title is required")
@@ -42,6 +46,11 @@ public class VideoLink {
     @Column(name = "added_at", nullable = false, updatable = false)
     private LocalDateTime addedAt;
 
+    /** Set from the current tenant on insert; every query is filtered by it */
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, length = 50, updatable = false)
+    private String tenantId;
+
     @PrePersist
     protected void onCreate() {
         this.addedAt = LocalDateTime.now();
@@ -178,4 +187,16 @@ public class VideoLink {
         }
         return this.youtubeUrl;
     }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Only needed outside a persistence context (e.g. tests); on insert the
+     * value must match the current tenant.
+     */
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
 }
@@ -2,8 +2,11 @@ package com.campusstudyhub.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -104,6 +108,34 @@ public class GlobalExceptionHandler {
         return "error/400";
     }
 
+    /**
+     * Handle a saturated password hashing pool (registration under load).
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handlePasswordHashingBusyException(PasswordHashingBusyException ex,
+            HttpServletResponse response, Model model) {
+        log.warn("Password hashing busy: {}", ex.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "2");
+        model.addAttribute("error", "The service is busy. Please try again in a few seconds.");
+        model.addAttribute("status", 503);
+        return "error/503";
+    }
+
+    /**
+     * Handle an exhausted database connection pool.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleCannotCreateTransactionException(CannotCreateTransactionException ex,
+            HttpServletResponse response, Model model) {
+        log.warn("No database connection: {}", ex.getMostSpecificCause().getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        model.addAttribute("error", "The service is busy. Please try again in a few seconds.");
+        model.addAttribute("status", 503);
+        return "error/503";
+    }
+
     /**
      * Handle 404 - handler not found.
      */
@@ -116,6 +148,18 @@ public class GlobalExceptionHandler {
         return "error/404";
     }
 
+    /**
+     * Handle 404 - no static resource (including stale fingerprinted URLs).
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public String handleNoResourceFoundException(NoResourceFoundException ex, Model model) {
+        log.debug("Static resource not found: {}", ex.getResourcePath());
+        model.addAttribute("error", "Page not found");
+        model.addAttribute("status", 404);
+        return "error/404";
+    }
+
     /**
      * Handle all other exceptions.
      */
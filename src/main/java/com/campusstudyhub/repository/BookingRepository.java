@@ -14,6 +14,8 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findByUserId(Long userId);
 
+    long countByUserId(Long userId);
+
     /**
      * Find approved bookings that overlap with the given time range for a specific
      * room.
@@ -0,0 +1,28 @@
+package com.campusstudyhub.repository;
+
+import com.campusstudyhub.entity.RateLimitBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for shared rate limit buckets.
+ */
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+
+    /**
+     * Load a bucket and hold a row lock until the surrounding transaction ends.
+     *
+     * @param key the bucket key (client + path group)
+     * @return Optional containing the locked bucket if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RateLimitBucket b WHERE b.bucketKey = :key")
+    Optional<RateLimitBucket> findForUpdate(@Param("key") String key);
+}
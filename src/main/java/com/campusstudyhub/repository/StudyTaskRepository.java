@@ -2,9 +2,14 @@ package com.campusstudyhub.repository;
 
 import com.campusstudyhub.entity.StudyTask;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for StudyTask entity.
@@ -17,4 +22,21 @@ public interface StudyTaskRepository extends JpaRepository<StudyTask, Long> {
     List<StudyTask> findByUserIdAndStatusOrderByDueDateAsc(Long userId, String status);
 
     long countByUserIdAndStatus(Long userId, String status);
+
+    long countByUserIdAndStatusIn(Long userId, Collection<String> statuses);
+
+    /**
+     * Count a user's tasks per status and priority, with how many are
+     * overdue and when the next open one is due, in one pass over the
+     * (tenant_id, user_id, status, due_date) index.
+     */
+    @Query("SELECT new com.campusstudyhub.repository.TaskStatusCount(t.status, t.priority, COUNT(t), "
+            + "SUM(CASE WHEN t.status <> 'DONE' AND t.dueDate < :now THEN 1L ELSE 0L END), "
+            + "MIN(CASE WHEN t.status <> 'DONE' AND t.dueDate >= :now THEN t.dueDate END)) "
+            + "FROM StudyTask t WHERE t.userId = :userId "
+            + "GROUP BY t.status, t.priority")
+    List<TaskStatusCount> summarizeByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    Optional<StudyTask> findFirstByUserIdAndStatusInAndDueDateOrderByIdAsc(Long userId,
+            Collection<String> statuses, LocalDateTime dueDate);
 }
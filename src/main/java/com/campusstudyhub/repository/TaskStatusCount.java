@@ -0,0 +1,14 @@
+package com.campusstudyhub.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the task summary: a user's tasks with a given status and
+ * priority.
+ *
+ * @param total   tasks in this group
+ * @param overdue tasks in this group past their due date and not done
+ * @param nextDue earliest upcoming due date among the group's open tasks
+ */
+public record TaskStatusCount(String status, String priority, Long total, Long overdue, LocalDateTime nextDue) {
+}
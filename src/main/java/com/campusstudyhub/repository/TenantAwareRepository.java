@@ -0,0 +1,34 @@
+package com.campusstudyhub.repository;
+
+import com.campusstudyhub.entity.TenantScoped;
+import com.campusstudyhub.security.TenantContext;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Base class for every repository. Hibernate adds the tenant restriction to
+ * queries but not to loads by primary key, so {@link #findById} checks the
+ * loaded row's tenant itself and treats another tenant's row as missing.
+ */
+public class TenantAwareRepository<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    public TenantAwareRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        return super.findById(id).filter(TenantAwareRepository::belongsToCurrentTenant);
+    }
+
+    static boolean belongsToCurrentTenant(Object entity) {
+        if (!(entity instanceof TenantScoped scoped)) {
+            return true;
+        }
+        String tenant = TenantContext.getCurrentTenant();
+        return (tenant != null ? tenant : TenantContext.DEFAULT_TENANT).equals(scoped.getTenantId());
+    }
+}
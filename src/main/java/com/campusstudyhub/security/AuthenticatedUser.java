@@ -0,0 +1,137 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.entity.User;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Principal stored in the security context for a logged-in user.
+ *
+ * Carries the id, role and tenant so controllers and services can act on the
+ * current user without looking them up again by email.
+ */
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String email;
+    private final String fullName;
+    private final String role;
+    private final String tenantId;
+    private String password;
+
+    public AuthenticatedUser(Long id, String email, String fullName, String role, String tenantId,
+            String password) {
+        this.id = id;
+        this.email = email;
+        this.fullName = fullName;
+        this.role = role;
+        this.tenantId = tenantId;
+        this.password = password;
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getFullName(), user.getRole(),
+                user.getTenantId(), user.getPassword());
+    }
+
+    /**
+     * Copy handed out per authentication, so erasing its credentials after
+     * login leaves a cached instance intact.
+     */
+    public AuthenticatedUser copy() {
+        return new AuthenticatedUser(id, email, fullName, role, tenantId, password);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isAdmin() {
+        return "ROLE_ADMIN".equals(role);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AuthenticatedUser other)) {
+            return false;
+        }
+        return Objects.equals(email, other.email) && Objects.equals(tenantId, other.tenantId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(email, tenantId);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser[id=" + id + ", email=" + email + ", role=" + role + ", tenant=" + tenantId + "]";
+    }
+}
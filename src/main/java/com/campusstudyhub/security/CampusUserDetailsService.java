@@ -0,0 +1,101 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Loads users from the database as {@link AuthenticatedUser} principals.
+ *
+ * Lookups are cached per tenant and email for a short time so bursts of
+ * logins (or repeated token exchanges) do not hit the users table every time.
+ * Unknown users are never cached.
+ *
+ * Also stores rehashed passwords when a login finds the stored hash uses an
+ * outdated algorithm or cost (see {@link PasswordEncoders}).
+ */
+@Service
+public class CampusUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, CachedUser> cache = new ConcurrentHashMap<>();
+
+    public CampusUserDetailsService(UserRepository userRepository,
+            @Value("${app.security.user-cache.ttl:60s}") Duration ttl,
+            @Value("${app.security.user-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        String key = cacheKey(username);
+        long now = System.currentTimeMillis();
+
+        CachedUser cached = cache.get(key);
+        if (cached == null || cached.expiresAt <= now) {
+            AuthenticatedUser user = userRepository.findByEmail(username)
+                    .map(AuthenticatedUser::from)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+            cached = new CachedUser(user, now + ttlMillis);
+            if (ttlMillis > 0) {
+                if (cache.size() >= maxSize) {
+                    evictExpired(now);
+                }
+                cache.put(key, cached);
+            }
+        }
+        return cached.user.copy();
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.findByEmail(user.getUsername()).ifPresent(entity -> {
+            entity.setPassword(newPassword);
+            userRepository.save(entity);
+        });
+        evict(user.getUsername());
+        AuthenticatedUser current = (AuthenticatedUser) user;
+        return new AuthenticatedUser(current.getId(), current.getEmail(), current.getFullName(), current.getRole(),
+                current.getTenantId(), newPassword);
+    }
+
+    /**
+     * Drop a user from the cache, e.g. after their password or role changed.
+     */
+    public void evict(String email) {
+        cache.keySet().removeIf(key -> key.endsWith(":" + email));
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(entry -> entry.expiresAt <= now);
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    private static String cacheKey(String username) {
+        String tenant = TenantContext.getCurrentTenant();
+        return (tenant != null ? tenant : TenantContext.DEFAULT_TENANT) + ":" + username;
+    }
+
+    private record CachedUser(AuthenticatedUser user, long expiresAt) {
+    }
+}
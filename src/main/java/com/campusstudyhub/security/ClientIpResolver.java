@@ -0,0 +1,84 @@
+package com.campusstudyhub.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the client address for rate limiting.
+ *
+ * X-Forwarded-For is only honoured when the direct peer is a trusted proxy.
+ * The header is then read right to left, skipping trusted hops, and the first
+ * untrusted address is the client. Entries further left were supplied by the
+ * client itself and are ignored, so they cannot be used to dodge a limit or
+ * to drain someone else's bucket.
+ */
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+    public ClientIpResolver(List<String> trustedProxyCidrs) {
+        for (String cidr : trustedProxyCidrs) {
+            if (cidr != null && !cidr.isBlank()) {
+                trustedProxies.add(new IpAddressMatcher(cidr.trim()));
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrusted(hop)) {
+                return hop;
+            }
+        }
+        // Every hop is one of our proxies; the leftmost is the closest we get
+        String first = hops[0].trim();
+        return first.isEmpty() ? remoteAddr : first;
+    }
+
+    private boolean isTrusted(String address) {
+        if (trustedProxies.isEmpty() || !isIpLiteral(address)) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            if (matcher.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Only IP literals are matched, so a forged hostname in the header never
+     * triggers a DNS lookup.
+     */
+    private static boolean isIpLiteral(String address) {
+        if (address == null || address.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            boolean hex = (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+            if (!hex && c != '.' && c != ':') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+package com.campusstudyhub.security;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Helpers that carry the request context ({@link RequestContextSnapshot}) onto
+ * other threads.
+ *
+ * Spring-managed executors and schedulers get {@link #taskDecorator()}
+ * through configuration. Use {@link #wrap(Executor)} for executors created by
+ * hand, and {@link #supplyAsync}/{@link #runAsync} instead of the
+ * {@code CompletableFuture} variants without an executor, whose common pool
+ * would drop the context.
+ */
+public final class ContextPropagation {
+
+    private static final TaskDecorator TASK_DECORATOR = task -> RequestContextSnapshot.capture().wrap(task);
+
+    private ContextPropagation() {
+    }
+
+    /**
+     * Decorator capturing the submitter's context for each task.
+     */
+    public static TaskDecorator taskDecorator() {
+        return TASK_DECORATOR;
+    }
+
+    /**
+     * Wrap an executor so every task runs with its submitter's context.
+     */
+    public static TaskExecutorAdapter wrap(Executor executor) {
+        TaskExecutorAdapter adapter = new TaskExecutorAdapter(executor);
+        adapter.setTaskDecorator(TASK_DECORATOR);
+        return adapter;
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        RequestContextSnapshot snapshot = RequestContextSnapshot.capture();
+        return CompletableFuture.supplyAsync(supplier, task -> executor.execute(snapshot.wrap(task)));
+    }
+
+    public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+        RequestContextSnapshot snapshot = RequestContextSnapshot.capture();
+        return CompletableFuture.runAsync(runnable, task -> executor.execute(snapshot.wrap(task)));
+    }
+}
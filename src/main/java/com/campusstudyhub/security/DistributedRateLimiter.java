@@ -0,0 +1,157 @@
+package com.campusstudyhub.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Cluster-wide rate limiter backed by a shared {@link RateLimitStore}.
+ *
+ * Each node leases a small batch of tokens from the shared bucket and serves
+ * requests from that lease, so only one request in {@code lease-size} needs a
+ * round trip. Leases expire quickly so an idle node cannot hoard budget;
+ * tokens left in an expired lease go back to the shared bucket on the next
+ * renewal, so sparse traffic does not burn a whole lease per request.
+ * When the store fails, callers fall back to their local per-node bucket
+ * until {@code retry-after} has passed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.ratelimit.distributed.enabled", havingValue = "true")
+public class DistributedRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(DistributedRateLimiter.class);
+
+    private final RateLimitStore store;
+    private final long leaseSize;
+    private final long leaseTtlMillis;
+    private final long retryAfterMillis;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private volatile long backendDownUntil;
+
+    public DistributedRateLimiter(RateLimitStore store,
+            @Value("${app.ratelimit.distributed.lease-size:5}") long leaseSize,
+            @Value("${app.ratelimit.distributed.lease-ttl:2s}") Duration leaseTtl,
+            @Value("${app.ratelimit.distributed.retry-after:30s}") Duration retryAfter) {
+        this.store = store;
+        this.leaseSize = Math.max(1, leaseSize);
+        this.leaseTtlMillis = leaseTtl.toMillis();
+        this.retryAfterMillis = retryAfter.toMillis();
+    }
+
+    /**
+     * Try to take one token for the given key.
+     *
+     * @param key           the bucket key
+     * @param capacity      tokens per refill period
+     * @param refillPeriod  the refill period
+     * @param localFallback decides the request when the shared store is down
+     * @return true if the request may proceed
+     */
+    public boolean tryConsume(String key, long capacity, Duration refillPeriod, BooleanSupplier localFallback) {
+        if (System.currentTimeMillis() < backendDownUntil) {
+            return localFallback.getAsBoolean();
+        }
+
+        Lease lease = leases.computeIfAbsent(key, k -> new Lease());
+        if (lease.tryTake()) {
+            return true;
+        }
+
+        // A lock rather than synchronized: the store round trip must not pin a
+        // virtual thread to its carrier
+        lease.renewal.lock();
+        try {
+            // Another thread may have renewed the lease while we waited
+            if (lease.tryTake()) {
+                return true;
+            }
+
+            long unused = lease.drain();
+            long granted;
+            try {
+                granted = reserve(key, capacity, refillPeriod, Math.min(leaseSize, capacity), unused);
+            } catch (RuntimeException e) {
+                markBackendDown(e);
+                return localFallback.getAsBoolean();
+            }
+
+            if (granted <= 0) {
+                return false;
+            }
+            lease.renew(granted - 1, System.currentTimeMillis() + leaseTtlMillis);
+            return true;
+        } finally {
+            lease.renewal.unlock();
+        }
+    }
+
+    /**
+     * Drop all local leases.
+     */
+    public void reset() {
+        leases.clear();
+        backendDownUntil = 0;
+    }
+
+    private long reserve(String key, long capacity, Duration refillPeriod, long requested, long returned) {
+        try {
+            return store.reserve(key, capacity, refillPeriod, requested, returned);
+        } catch (DataIntegrityViolationException e) {
+            // Lost the race to create the bucket row; it exists now
+            return store.reserve(key, capacity, refillPeriod, requested, returned);
+        }
+    }
+
+    private void markBackendDown(RuntimeException e) {
+        backendDownUntil = System.currentTimeMillis() + retryAfterMillis;
+        log.warn("Rate limit store unavailable, using local limits for {} ms: {}", retryAfterMillis,
+                e.getMessage());
+    }
+
+    /**
+     * Tokens leased from the shared bucket and not yet spent on this node.
+     */
+    private static final class Lease {
+
+        private final AtomicLong remaining = new AtomicLong();
+        private final ReentrantLock renewal = new ReentrantLock();
+        private volatile long expiresAt;
+
+        boolean tryTake() {
+            if (System.currentTimeMillis() >= expiresAt) {
+                return false;
+            }
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        /**
+         * Take back whatever is left; called once the lease has expired.
+         */
+        long drain() {
+            return Math.max(0, remaining.getAndSet(0));
+        }
+
+        void renew(long tokens, long expiresAt) {
+            remaining.set(tokens);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
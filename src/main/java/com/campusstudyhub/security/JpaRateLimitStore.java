@@ -0,0 +1,63 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.entity.RateLimitBucket;
+import com.campusstudyhub.repository.RateLimitBucketRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * Row-based token buckets in the application database (PostgreSQL in
+ * production, H2 in tests). Each reservation is a short transaction that
+ * locks the bucket row, refills it and takes tokens.
+ */
+@Component
+@ConditionalOnProperty(name = "app.ratelimit.distributed.enabled", havingValue = "true")
+public class JpaRateLimitStore implements RateLimitStore {
+
+    private final RateLimitBucketRepository bucketRepository;
+
+    public JpaRateLimitStore(RateLimitBucketRepository bucketRepository) {
+        this.bucketRepository = bucketRepository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String key, long capacity, Duration refillPeriod, long requested, long returned) {
+        long now = System.currentTimeMillis();
+
+        RateLimitBucket bucket = bucketRepository.findForUpdate(key).orElse(null);
+        if (bucket == null) {
+            // A concurrent insert of the same key fails on the primary key;
+            // DistributedRateLimiter retries once and then finds the row
+            bucket = new RateLimitBucket(key, capacity, now);
+        } else {
+            refill(bucket, capacity, refillPeriod.toMillis(), now);
+            bucket.setTokens(Math.min(capacity, bucket.getTokens() + returned));
+        }
+
+        long granted = Math.min(requested, bucket.getTokens());
+        bucket.setTokens(bucket.getTokens() - granted);
+        bucketRepository.save(bucket);
+        return granted;
+    }
+
+    /**
+     * Add the tokens earned since the last refill, keeping the fractional
+     * remainder by only advancing the refill timestamp for whole tokens.
+     */
+    static void refill(RateLimitBucket bucket, long capacity, long periodMillis, long now) {
+        long elapsed = now - bucket.getRefilledAt();
+        long earned = elapsed * capacity / periodMillis;
+        if (earned <= 0) {
+            return;
+        }
+
+        long tokens = Math.min(capacity, bucket.getTokens() + earned);
+        bucket.setTokens(tokens);
+        bucket.setRefilledAt(tokens == capacity ? now : bucket.getRefilledAt() + earned * periodMillis / capacity);
+    }
+}
@@ -0,0 +1,45 @@
+package com.campusstudyhub.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the application's password encoder from
+ * {@link PasswordHashingProperties}.
+ */
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * A delegating encoder that writes {@code {id}}-prefixed hashes with the
+     * configured algorithm. Hashes stored before prefixes were introduced are
+     * plain BCrypt and are matched as such; they always report that they need
+     * an upgrade, so they get the prefix on the next login.
+     */
+    public static PasswordEncoder create(PasswordHashingProperties properties) {
+        String algorithm = properties.getAlgorithm();
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(properties.getBcryptStrength()));
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder("", 16, properties.getPbkdf2Iterations(),
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("Unsupported app.security.password.algorithm: " + algorithm
+                    + " (expected one of " + encoders.keySet() + ")");
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+}
@@ -0,0 +1,82 @@
+package com.campusstudyhub.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Password hashing settings, loaded from {@code app.security.password.*}.
+ *
+ * New and upgraded hashes use {@code algorithm}; stored hashes in any
+ * supported format keep verifying and are rehashed on the next successful
+ * login when the algorithm or cost differs.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashingProperties {
+
+    /** bcrypt or pbkdf2 */
+    private String algorithm = "bcrypt";
+
+    private int bcryptStrength = 10;
+
+    private int pbkdf2Iterations = 310000;
+
+    /** Threads hashing in parallel; 0 uses the number of CPUs */
+    private int poolSize = 0;
+
+    /** Hash requests allowed to wait for a thread before callers get a 503 */
+    private int queueCapacity = 64;
+
+    /** Longest a caller waits for its hash before giving up */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getPbkdf2Iterations() {
+        return pbkdf2Iterations;
+    }
+
+    public void setPbkdf2Iterations(int pbkdf2Iterations) {
+        this.pbkdf2Iterations = pbkdf2Iterations;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+}
@@ -0,0 +1,118 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.util.PathPrefixTrie;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Compiled rate limit rules, indexed by path prefix.
+ */
+public class RateLimitPolicy {
+
+    private final PathPrefixTrie<Limit> limits = new PathPrefixTrie<>();
+
+    public RateLimitPolicy(List<RateLimitProperties.Rule> rules, MeterRegistry meterRegistry) {
+        for (RateLimitProperties.Rule rule : rules) {
+            Limit limit = new Limit(rule, meterRegistry);
+            for (String path : rule.getPaths()) {
+                limits.insert(path, limit);
+            }
+        }
+    }
+
+    /**
+     * Find the limit applying to a request.
+     *
+     * @param path     the request URI
+     * @param method   the HTTP method
+     * @param auth     the current authentication, may be null
+     * @param tenantId the current tenant, may be null
+     * @return the matching limit, or null if the request is not limited
+     */
+    public Limit resolve(String path, String method, Authentication auth, String tenantId) {
+        return limits.findLongestMatch(path, limit -> limit.matches(method, auth, tenantId));
+    }
+
+    /**
+     * A rule ready for matching, with its per-rule counters.
+     */
+    public static final class Limit {
+
+        private final String name;
+        private final long capacity;
+        private final Duration period;
+        private final Set<String> methods = new HashSet<>();
+        private final Set<String> roles;
+        private final Set<String> tenants;
+        private final Counter allowed;
+        private final Counter throttled;
+
+        Limit(RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            this.name = rule.getName();
+            this.capacity = rule.getCapacity();
+            this.period = rule.getPeriod();
+            rule.getMethods().forEach(m -> methods.add(m.toUpperCase(Locale.ROOT)));
+            this.roles = new HashSet<>(rule.getRoles());
+            this.tenants = new HashSet<>(rule.getTenants());
+            this.allowed = Counter.builder("ratelimit.requests")
+                    .description("Requests checked against a rate limit rule")
+                    .tag("rule", name)
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry);
+            this.throttled = Counter.builder("ratelimit.requests")
+                    .description("Requests checked against a rate limit rule")
+                    .tag("rule", name)
+                    .tag("outcome", "throttled")
+                    .register(meterRegistry);
+        }
+
+        boolean matches(String method, Authentication auth, String tenantId) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            if (!tenants.isEmpty() && !tenants.contains(tenantId)) {
+                return false;
+            }
+            if (!roles.isEmpty()) {
+                if (auth == null) {
+                    return false;
+                }
+                for (GrantedAuthority authority : auth.getAuthorities()) {
+                    if (roles.contains(authority.getAuthority())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return true;
+        }
+
+        public boolean isUnlimited() {
+            return capacity <= 0;
+        }
+
+        public void record(boolean wasAllowed) {
+            (wasAllowed ? allowed : throttled).increment();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.campusstudyhub.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limit policy loaded from {@code app.ratelimit.*}.
+ *
+ * Without any {@code app.ratelimit.rules[n]} entries the historical limits
+ * apply: 10/min for login, registration and API token requests, 100/min for
+ * the rest of the REST API and
+ * 200/min for everything else.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.ratelimit")
+public class RateLimitProperties {
+
+    /** CIDR ranges of proxies allowed to set X-Forwarded-For */
+    private List<String> trustedProxies = new ArrayList<>();
+
+    private List<Rule> rules = defaultRules();
+
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    private static List<Rule> defaultRules() {
+        List<Rule> defaults = new ArrayList<>();
+        defaults.add(new Rule("auth", 10, "/login", "/register", "/api/v1/auth/"));
+        defaults.add(new Rule("api", 100, "/api/"));
+        defaults.add(new Rule("general", 200, "/"));
+        return defaults;
+    }
+
+    /**
+     * A single limit. A request matches when its path starts with one of the
+     * paths and it satisfies every non-empty condition; the longest matching
+     * path wins, and rules sharing a path are tried in declaration order.
+     */
+    public static class Rule {
+
+        /** Used in bucket keys and metric tags; rules with the same name share buckets */
+        private String name;
+
+        private List<String> paths = new ArrayList<>();
+
+        /** HTTP methods, empty for any */
+        private List<String> methods = new ArrayList<>();
+
+        /** Authorities such as ROLE_ADMIN, empty for any (including anonymous) */
+        private List<String> roles = new ArrayList<>();
+
+        /** Tenant IDs, empty for any */
+        private List<String> tenants = new ArrayList<>();
+
+        /** Requests allowed per period; 0 or less disables limiting for matching requests */
+        private long capacity;
+
+        private Duration period = Duration.ofMinutes(1);
+
+        public Rule() {
+        }
+
+        public Rule(String name, long capacity, String... paths) {
+            this.name = name;
+            this.capacity = capacity;
+            this.paths = new ArrayList<>(List.of(paths));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<String> roles) {
+            this.roles = roles;
+        }
+
+        public List<String> getTenants() {
+            return tenants;
+        }
+
+        public void setTenants(List<String> tenants) {
+            this.tenants = tenants;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.campusstudyhub.security;
+
+import java.time.Duration;
+
+/**
+ * Backend holding token buckets shared by every replica.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Atomically take up to {@code requested} tokens from the shared bucket,
+     * creating it full if it does not exist yet. Tokens a node leased but did
+     * not use are handed back first, up to the capacity.
+     *
+     * @param key          the bucket key
+     * @param capacity     bucket capacity, also the number of tokens refilled
+     *                     per period
+     * @param refillPeriod the refill period
+     * @param requested    the number of tokens wanted
+     * @param returned     unused tokens from the caller's expired lease
+     * @return the number of tokens granted, 0 when the bucket is empty
+     */
+    long reserve(String key, long capacity, Duration refillPeriod, long requested, long returned);
+}
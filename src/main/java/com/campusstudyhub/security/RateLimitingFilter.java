@@ -2,25 +2,43 @@ package com.campusstudyhub.security;
 
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.Bandwidth;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Filter for rate limiting based on IP address and request path.
- * Uses Bucket4j for token bucket algorithm.
+ * Filter for rate limiting based on client address and the matching policy
+ * rule (see {@link RateLimitProperties}). Uses Bucket4j for token bucket
+ * algorithm.
+ *
+ * With {@code app.ratelimit.distributed.enabled=true} the limits are enforced
+ * cluster-wide through {@link DistributedRateLimiter}; the local buckets then
+ * only apply while the shared store is unavailable.
  */
 @Component
 public class RateLimitingFilter implements Filter {
 
     private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitPolicy policy;
+    private final ClientIpResolver clientIpResolver;
+    private final DistributedRateLimiter distributedRateLimiter;
+
+    public RateLimitingFilter(RateLimitProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<DistributedRateLimiter> distributedRateLimiter) {
+        this.policy = new RateLimitPolicy(properties.getRules(), meterRegistry);
+        this.clientIpResolver = new ClientIpResolver(properties.getTrustedProxies());
+        this.distributedRateLimiter = distributedRateLimiter.getIfAvailable();
+    }
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -29,13 +47,22 @@ public class RateLimitingFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String ip = getClientIP(httpRequest);
-        String path = httpRequest.getRequestURI();
-        String key = ip + ":" + getPathGroup(path);
+        RateLimitPolicy.Limit limit = policy.resolve(httpRequest.getRequestURI(), httpRequest.getMethod(),
+                SecurityContextHolder.getContext().getAuthentication(), TenantContext.getCurrentTenant());
+        if (limit == null || limit.isUnlimited()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = limit.getName() + ":" + clientIpResolver.resolve(httpRequest);
 
-        Bucket bucket = buckets.computeIfAbsent(key, k -> createNewBucket(path));
+        boolean allowed = distributedRateLimiter != null
+                ? distributedRateLimiter.tryConsume(key, limit.getCapacity(), limit.getPeriod(),
+                        () -> consumeLocal(key, limit))
+                : consumeLocal(key, limit);
+        limit.record(allowed);
 
-        if (bucket.tryConsume(1)) {
+        if (allowed) {
             chain.doFilter(request, response);
         } else {
             httpResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
@@ -44,54 +71,24 @@ public class RateLimitingFilter implements Filter {
         }
     }
 
-    private Bucket createNewBucket(String path) {
-        if (path.startsWith("/login") || path.startsWith("/register")) {
-            // Strict limit for auth endpoints: 10 per minute
-            return Bucket.builder()
-                    .addLimit(Bandwidth.builder()
-                            .capacity(10)
-                            .refillIntervally(10, Duration.ofMinutes(1))
-                            .build())
-                    .build();
-        } else if (path.startsWith("/api/")) {
-            // API endpoints: 100 per minute
-            return Bucket.builder()
-                    .addLimit(Bandwidth.builder()
-                            .capacity(100)
-                            .refillIntervally(100, Duration.ofMinutes(1))
-                            .build())
-                    .build();
-        } else {
-            // General pages: 200 per minute
-            return Bucket.builder()
-                    .addLimit(Bandwidth.builder()
-                            .capacity(200)
-                            .refillIntervally(200, Duration.ofMinutes(1))
-                            .build())
-                    .build();
-        }
+    private boolean consumeLocal(String key, RateLimitPolicy.Limit limit) {
+        return buckets.computeIfAbsent(key, k -> createNewBucket(limit)).tryConsume(1);
     }
 
-    private String getPathGroup(String path) {
-        if (path.startsWith("/login"))
-            return "auth";
-        if (path.startsWith("/register"))
-            return "auth";
-        if (path.startsWith("/api/"))
-            return "api";
-        return "general";
-    }
-
-    private String getClientIP(HttpServletRequest request) {
-        String xfHeader = request.getHeader("X-Forwarded-For");
-        if (xfHeader == null) {
-            return request.getRemoteAddr();
-        }
-        return xfHeader.split(",")[0];
+    private Bucket createNewBucket(RateLimitPolicy.Limit limit) {
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(limit.getCapacity())
+                        .refillIntervally(limit.getCapacity(), limit.getPeriod())
+                        .build())
+                .build();
     }
 
     public void reset() {
         buckets.clear();
+        if (distributedRateLimiter != null) {
+            distributedRateLimiter.reset();
+        }
     }
 
     @Override
@@ -0,0 +1,154 @@
+package com.campusstudyhub.security;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The per-request state that async work must see: tenant, authenticated user,
+ * request ID and the current observation, which keeps async spans in the
+ * request's trace.
+ *
+ * A snapshot holds four references and copies no maps, so carrying it to
+ * another thread costs one small object per hand-off. The observation is
+ * read directly rather than through a context-propagation snapshot, which
+ * would build a map of every registered accessor. When there is nothing
+ * to carry (startup, scheduled jobs) {@link #wrap} returns the task itself.
+ * The worker's previous state is restored afterwards, so the same wrappers
+ * are safe on pooled platform threads, virtual threads and caller-runs
+ * fallbacks alike.
+ */
+public final class RequestContextSnapshot {
+
+    /** MDC key holding the request ID, also used by the log patterns */
+    public static final String REQUEST_ID_KEY = "requestId";
+
+    private static final RequestContextSnapshot EMPTY = new RequestContextSnapshot(null, null, null, null);
+
+    private final String tenantId;
+    private final SecurityContext securityContext;
+    private final String requestId;
+    private final Observation observation;
+
+    private RequestContextSnapshot(String tenantId, SecurityContext securityContext, String requestId,
+            Observation observation) {
+        this.tenantId = tenantId;
+        this.securityContext = securityContext;
+        this.requestId = requestId;
+        this.observation = observation;
+    }
+
+    /**
+     * Capture the calling thread's context.
+     */
+    public static RequestContextSnapshot capture() {
+        String tenantId = TenantContext.getCurrentTenant();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        if (securityContext.getAuthentication() == null) {
+            securityContext = null;
+        }
+        String requestId = MDC.get(REQUEST_ID_KEY);
+
+        if (tenantId == null && securityContext == null && requestId == null) {
+            return EMPTY;
+        }
+        return new RequestContextSnapshot(tenantId, securityContext, requestId,
+                ObservationThreadLocalAccessor.getInstance().getValue());
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * Return a task that runs with this snapshot's context.
+     */
+    public Runnable wrap(Runnable task) {
+        if (isEmpty()) {
+            return task;
+        }
+        return () -> {
+            String previousTenant = TenantContext.getCurrentTenant();
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+            String previousRequestId = MDC.get(REQUEST_ID_KEY);
+            apply();
+            Observation.Scope scope = openObservationScope();
+            try {
+                task.run();
+            } finally {
+                closeObservationScope(scope);
+                restore(previousTenant, previousSecurity, previousRequestId);
+            }
+        };
+    }
+
+    /**
+     * Return a task that runs with this snapshot's context.
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        if (isEmpty()) {
+            return task;
+        }
+        return () -> {
+            String previousTenant = TenantContext.getCurrentTenant();
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+            String previousRequestId = MDC.get(REQUEST_ID_KEY);
+            apply();
+            Observation.Scope scope = openObservationScope();
+            try {
+                return task.call();
+            } finally {
+                closeObservationScope(scope);
+                restore(previousTenant, previousSecurity, previousRequestId);
+            }
+        };
+    }
+
+    private void apply() {
+        set(tenantId, securityContext, requestId);
+    }
+
+    private Observation.Scope openObservationScope() {
+        return observation != null ? observation.openScope() : null;
+    }
+
+    private static void closeObservationScope(Observation.Scope scope) {
+        if (scope != null) {
+            scope.close();
+        }
+    }
+
+    private static void restore(String tenantId, SecurityContext securityContext, String requestId) {
+        set(tenantId, securityContext.getAuthentication() != null ? securityContext : null, requestId);
+    }
+
+    private static void set(String tenantId, SecurityContext securityContext, String requestId) {
+        if (tenantId != null) {
+            TenantContext.setCurrentTenant(tenantId);
+        } else {
+            TenantContext.clear();
+        }
+        if (securityContext != null) {
+            SecurityContextHolder.setContext(securityContext);
+        } else {
+            SecurityContextHolder.clearContext();
+        }
+        if (requestId != null) {
+            MDC.put(REQUEST_ID_KEY, requestId);
+        } else {
+            MDC.remove(REQUEST_ID_KEY);
+        }
+    }
+}
@@ -8,6 +8,10 @@ import org.slf4j.LoggerFactory;
  * in a thread-safe manner using ThreadLocal.
  */
 public class TenantContext {
+
+    /** Tenant used when a request names none, and outside requests */
+    public static final String DEFAULT_TENANT = "default";
+
     private static final Logger logger = LoggerFactory.getLogger(TenantContext.class);
     private static final ThreadLocal<String> currentTenant = new ThreadLocal<>();
 
@@ -4,6 +4,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -12,21 +14,33 @@ import java.io.IOException;
 /**
  * TenantFilter extracts the tenant ID from the request headers and sets it in
  * the TenantContext.
+ *
+ * A signed-in session belongs to the tenant the user logged in to: its
+ * tenant is used when the header is missing, and a header naming another
+ * tenant is rejected with 403. Bearer tokens are checked the same way by
+ * {@link TokenService}.
  */
 @Component
 public class TenantFilter extends OncePerRequestFilter {
 
     private static final String TENANT_HEADER = "X-Tenant-ID";
-    private static final String DEFAULT_TENANT = "default";
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
         String tenantId = request.getHeader(TENANT_HEADER);
-
-        if (tenantId == null || tenantId.isEmpty()) {
-            tenantId = DEFAULT_TENANT;
+        boolean headerPresent = tenantId != null && !tenantId.isEmpty();
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            if (headerPresent && !tenantId.equals(user.getTenantId())) {
+                response.sendError(HttpServletResponse.SC_FORBIDDEN, "Session belongs to another tenant");
+                return;
+            }
+            tenantId = user.getTenantId();
+        } else if (!headerPresent) {
+            tenantId = TenantContext.DEFAULT_TENANT;
         }
 
         try {
@@ -0,0 +1,38 @@
+package com.campusstudyhub.security;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Tells Hibernate which tenant a new session belongs to.
+ *
+ * Entities with an {@code @TenantId} column get the tenant stamped on insert
+ * and a {@code tenant_id = ?} restriction on every query, so one tenant never
+ * sees another's rows. Loads by primary key are not restricted; repositories
+ * check those through {@code TenantAwareRepository}. Sessions opened outside
+ * a request (startup seeding, scheduled jobs) use the default tenant.
+ */
+@Component
+@SuppressWarnings("rawtypes")
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver, HibernatePropertiesCustomizer {
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        String tenantId = TenantContext.getCurrentTenant();
+        return tenantId != null ? tenantId : TenantContext.DEFAULT_TENANT;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return true;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, this);
+    }
+}
@@ -0,0 +1,72 @@
+package com.campusstudyhub.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for API bearer tokens, loaded from {@code app.security.token.*}.
+ *
+ * Tokens are signed with HMAC-SHA256. {@code keys} maps a key id to a
+ * base64 secret of at least 32 bytes; tokens are signed with
+ * {@code activeKeyId} and verified with whichever key their header names. To
+ * rotate, add the new key, switch the active id once every node has it, and
+ * drop the old key after the refresh token lifetime has passed.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.token")
+public class TokenProperties {
+
+    private String issuer = "campus-study-hub";
+
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+
+    private String activeKeyId;
+
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    public String getIssuer() {
+        return issuer;
+    }
+
+    public void setIssuer(String issuer) {
+        this.issuer = issuer;
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    public void setAccessTokenTtl(Duration accessTokenTtl) {
+        this.accessTokenTtl = accessTokenTtl;
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
+    public void setRefreshTokenTtl(Duration refreshTokenTtl) {
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public void setActiveKeyId(String activeKeyId) {
+        this.activeKeyId = activeKeyId;
+    }
+
+    public Map<String, String> getKeys() {
+        return keys;
+    }
+
+    public void setKeys(Map<String, String> keys) {
+        this.keys = keys;
+    }
+}
@@ -0,0 +1,208 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.dto.TokenResponse;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Issues and verifies the signed bearer tokens used by the REST API.
+ *
+ * Access tokens carry everything needed to build an {@link AuthenticatedUser},
+ * so verifying one is a local signature check with no database or session
+ * lookup; any node can serve any request. Refresh tokens only carry the
+ * subject and tenant and are exchanged for a new pair after the user is
+ * reloaded, which picks up role changes and removed accounts.
+ */
+@Service
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    static final String CLAIM_TYPE = "typ";
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_NAME = "name";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TENANT = "tenant";
+
+    static final String TYPE_ACCESS = "access";
+    static final String TYPE_REFRESH = "refresh";
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final TokenProperties properties;
+    private final UserDetailsService userDetailsService;
+    private final String activeKeyId;
+    private final JwtEncoder encoder;
+    private final NimbusJwtDecoder decoder;
+
+    public TokenService(TokenProperties properties, UserDetailsService userDetailsService) {
+        this.properties = properties;
+        this.userDetailsService = userDetailsService;
+
+        List<JWK> keys = new ArrayList<>();
+        for (Map.Entry<String, String> entry : properties.getKeys().entrySet()) {
+            if (entry.getValue() != null && !entry.getValue().isBlank()) {
+                keys.add(toJwk(entry.getKey(), Base64.getDecoder().decode(entry.getValue().trim())));
+            }
+        }
+
+        String keyId = properties.getActiveKeyId();
+        if (keys.isEmpty()) {
+            byte[] secret = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(secret);
+            keyId = "ephemeral";
+            keys.add(toJwk(keyId, secret));
+            log.warn("No app.security.token.keys configured; using a random signing key. "
+                    + "API tokens will not survive a restart or work across nodes.");
+        } else if (keyId == null || keys.stream().noneMatch(k -> properties.getActiveKeyId().equals(k.getKeyID()))) {
+            throw new IllegalStateException(
+                    "app.security.token.active-key-id must name one of app.security.token.keys: " + keyId);
+        }
+        this.activeKeyId = keyId;
+
+        JWK activeKey = keys.stream().filter(k -> activeKeyId.equals(k.getKeyID())).findFirst().orElseThrow();
+        this.encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(activeKey)));
+
+        // Verification accepts every configured key and picks it by the token's kid
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.HS256,
+                new ImmutableJWKSet<>(new JWKSet(keys))));
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        this.decoder = new NimbusJwtDecoder(processor);
+        this.decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.getIssuer()));
+    }
+
+    /**
+     * Issue a new access and refresh token pair for an authenticated user.
+     */
+    public TokenResponse issue(AuthenticatedUser user) {
+        Instant now = Instant.now();
+        Duration accessTtl = properties.getAccessTokenTtl();
+
+        JwtClaimsSet access = baseClaims(user, TYPE_ACCESS, now, accessTtl)
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_NAME, user.getFullName())
+                .claim(CLAIM_ROLE, user.getRole())
+                .build();
+        JwtClaimsSet refresh = baseClaims(user, TYPE_REFRESH, now, properties.getRefreshTokenTtl()).build();
+
+        return new TokenResponse(encode(access), encode(refresh), accessTtl.toSeconds());
+    }
+
+    /**
+     * Exchange a refresh token for a new token pair.
+     *
+     * @throws BadCredentialsException if the token is invalid, expired, not a
+     *                                 refresh token or the user no longer exists
+     */
+    public TokenResponse refresh(String refreshToken) {
+        Jwt jwt;
+        try {
+            jwt = decoder.decode(refreshToken);
+        } catch (JwtException e) {
+            throw new BadCredentialsException("Invalid refresh token", e);
+        }
+        if (!TYPE_REFRESH.equals(jwt.getClaimAsString(CLAIM_TYPE))) {
+            throw new BadCredentialsException("Not a refresh token");
+        }
+
+        AuthenticatedUser user = (AuthenticatedUser) userDetailsService.loadUserByUsername(jwt.getSubject());
+        if (!user.getTenantId().equals(jwt.getClaimAsString(CLAIM_TENANT))) {
+            throw new BadCredentialsException("Refresh token was issued for another tenant");
+        }
+        return issue(user);
+    }
+
+    /**
+     * Build the authentication for a verified access token. Tokens are bound
+     * to the tenant they were issued for and rejected on any other tenant.
+     */
+    public AbstractAuthenticationToken toAuthentication(Jwt jwt) {
+        if (!TYPE_ACCESS.equals(jwt.getClaimAsString(CLAIM_TYPE))) {
+            throw new InvalidBearerTokenException("Only access tokens are accepted");
+        }
+        String tenantId = jwt.getClaimAsString(CLAIM_TENANT);
+        String currentTenant = TenantContext.getCurrentTenant();
+        if (currentTenant != null && !currentTenant.equals(tenantId)) {
+            throw new InvalidBearerTokenException("Token was issued for another tenant");
+        }
+
+        Number userId = jwt.getClaim(CLAIM_USER_ID);
+        AuthenticatedUser user = new AuthenticatedUser(
+                userId != null ? userId.longValue() : null,
+                jwt.getSubject(),
+                jwt.getClaimAsString(CLAIM_NAME),
+                jwt.getClaimAsString(CLAIM_ROLE),
+                tenantId,
+                null);
+        return UsernamePasswordAuthenticationToken.authenticated(user, jwt, user.getAuthorities());
+    }
+
+    public JwtDecoder getDecoder() {
+        return decoder;
+    }
+
+    private JwtClaimsSet.Builder baseClaims(AuthenticatedUser user, String type, Instant now, Duration ttl) {
+        return JwtClaimsSet.builder()
+                .issuer(properties.getIssuer())
+                .subject(user.getEmail())
+                .id(UUID.randomUUID().toString())
+                .issuedAt(now)
+                .expiresAt(now.plus(ttl))
+                .claim(CLAIM_TYPE, type)
+                .claim(CLAIM_TENANT, user.getTenantId());
+    }
+
+    private String encode(JwtClaimsSet claims) {
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).keyId(activeKeyId).build();
+        return encoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+
+    private static JWK toJwk(String keyId, byte[] secret) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("Token signing key '" + keyId + "' must be at least "
+                    + MIN_SECRET_BYTES + " bytes");
+        }
+        return new OctetSequenceKey.Builder(secret)
+                .keyID(keyId)
+                .algorithm(JWSAlgorithm.HS256)
+                .keyUse(KeyUse.SIGNATURE)
+                .build();
+    }
+}
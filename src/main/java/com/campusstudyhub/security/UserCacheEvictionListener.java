@@ -0,0 +1,47 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drops a user's cached principal whenever their row is updated or deleted,
+ * so a new password, role or name takes effect on the next login instead of
+ * after the cache TTL.
+ *
+ * Eviction waits for the commit; evicting earlier would let a concurrent
+ * login cache the old row again.
+ */
+@Component
+public class UserCacheEvictionListener {
+
+    private final ObjectProvider<CampusUserDetailsService> userDetailsService;
+
+    public UserCacheEvictionListener(ObjectProvider<CampusUserDetailsService> userDetailsService) {
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void userChanged(User user) {
+        CampusUserDetailsService service = userDetailsService.getIfAvailable();
+        if (service == null) {
+            return;
+        }
+        String email = user.getEmail();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            service.evict(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                service.evict(email);
+            }
+        });
+    }
+}
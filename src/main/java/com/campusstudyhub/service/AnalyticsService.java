@@ -1,7 +1,9 @@
 package com.campusstudyhub.service;
 
+import com.campusstudyhub.config.AsyncConfig;
 import com.campusstudyhub.entity.AnalyticsEvent;
 import com.campusstudyhub.repository.AnalyticsRepository;
+import com.campusstudyhub.security.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
@@ -23,16 +25,18 @@ public class AnalyticsService {
     }
 
     /**
-     * Tracks an event asynchronously.
+     * Tracks an event asynchronously on the analytics executor. Events are
+     * dropped (and counted) when that executor is saturated.
      * 
      * @param eventType the type of event (e.g. "poi_view")
      * @param payload   a map of event details
      * @param userId    the user ID associated with the event (can be null)
      */
-    @Async
+    @Async(AsyncConfig.ANALYTICS_EXECUTOR)
     public void trackEvent(String eventType, Map<String, Object> payload, String userId) {
         try {
             AnalyticsEvent event = new AnalyticsEvent(eventType, payload, userId);
+            event.setTenantId(TenantContext.getCurrentTenant());
             analyticsRepository.save(event);
             log.debug("Tracked event: {} for user: {}", eventType, userId);
         } catch (Exception e) {
@@ -4,12 +4,14 @@ import com.campusstudyhub.dto.BookingRequest;
 import com.campusstudyhub.dto.BookingResponse;
 import com.campusstudyhub.entity.Booking;
 import com.campusstudyhub.entity.Room;
-import com.campusstudyhub.entity.User;
 import com.campusstudyhub.repository.BookingRepository;
 import com.campusstudyhub.repository.RoomRepository;
 import com.campusstudyhub.repository.UserRepository;
+import com.campusstudyhub.security.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ import java.util.stream.Collectors;
  * and admin approval workflow.
  */
 @Service
+@Timed("app.service")
 public class BookingService {
 
     private static final Logger log = LoggerFactory.getLogger(BookingService.class);
@@ -33,24 +36,27 @@ public class BookingService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final AnalyticsService analyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public BookingService(BookingRepository bookingRepository,
             RoomRepository roomRepository,
             UserRepository userRepository,
             NotificationService notificationService,
-            AnalyticsService analyticsService) {
+            AnalyticsService analyticsService,
+            ApplicationEventPublisher eventPublisher) {
         this.bookingRepository = bookingRepository;
         this.roomRepository = roomRepository;
         this.userRepository = userRepository;
         this.notificationService = notificationService;
         this.analyticsService = analyticsService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Create a new booking request. Validates time constraints and overlap.
      */
     @Transactional
-    public BookingResponse requestBooking(BookingRequest request, String userEmail) {
+    public BookingResponse requestBooking(BookingRequest request, AuthenticatedUser user) {
         // Validate time range
         if (request.getEndAt().isBefore(request.getStartAt()) ||
                 request.getEndAt().isEqual(request.getStartAt())) {
@@ -64,10 +70,6 @@ public class BookingService {
                     "Booking duration cannot exceed " + MAX_BOOKING_HOURS + " hours");
         }
 
-        // Look up user
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userEmail));
-
         // Look up room
         Room room = roomRepository.findById(request.getRoomId())
                 .orElseThrow(() -> new IllegalArgumentException("Room not found: " + request.getRoomId()));
@@ -90,11 +92,12 @@ public class BookingService {
         booking.setStatus("PENDING");
 
         booking = bookingRepository.save(booking);
-        log.info("Booking {} created by user {} for room {}", booking.getId(), userEmail, room.getName());
+        eventPublisher.publishEvent(new DashboardChangedEvent(booking.getUserId()));
+        log.debug("Booking {} created by user {} for room {}", booking.getId(), user.getEmail(), room.getName());
 
         analyticsService.trackEvent("booking_create",
                 Map.of("bookingId", booking.getId(), "roomId", room.getId(), "roomName", room.getName()),
-                userEmail);
+                user.getEmail());
 
         return toResponse(booking, user.getFullName());
     }
@@ -121,6 +124,7 @@ public class BookingService {
 
         booking.setStatus("APPROVED");
         booking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new DashboardChangedEvent(booking.getUserId()));
 
         // Notify the requester
         notificationService.sendToUser(booking.getUserId(),
@@ -131,7 +135,7 @@ public class BookingService {
                 Map.of("bookingId", bookingId, "roomId", booking.getRoom().getId()),
                 null);
 
-        log.info("Booking {} approved", bookingId);
+        log.debug("Booking {} approved", bookingId);
         return toResponse(booking, null);
     }
 
@@ -150,6 +154,7 @@ public class BookingService {
 
         booking.setStatus("REJECTED");
         booking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new DashboardChangedEvent(booking.getUserId()));
 
         String body = "Your booking for " + booking.getRoom().getName() + " has been rejected.";
         if (reason != null && !reason.isBlank()) {
@@ -161,7 +166,7 @@ public class BookingService {
                 Map.of("bookingId", bookingId, "reason", reason != null ? reason : "none"),
                 null);
 
-        log.info("Booking {} rejected. Reason: {}", bookingId, reason);
+        log.debug("Booking {} rejected. Reason: {}", bookingId, reason);
         return toResponse(booking, null);
     }
 
@@ -169,16 +174,13 @@ public class BookingService {
      * Cancel a booking (by creator or admin).
      */
     @Transactional
-    public BookingResponse cancelBooking(Long bookingId, String userEmail) {
+    public BookingResponse cancelBooking(Long bookingId, AuthenticatedUser user) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new IllegalArgumentException("Booking not found: " + bookingId));
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userEmail));
-
         // Only the creator or an admin can cancel
         boolean isCreator = booking.getUserId().equals(user.getId());
-        boolean isAdmin = "ROLE_ADMIN".equals(user.getRole());
+        boolean isAdmin = user.isAdmin();
 
         if (!isCreator && !isAdmin) {
             throw new IllegalStateException("Only the booking creator or an admin can cancel this booking");
@@ -190,6 +192,7 @@ public class BookingService {
 
         booking.setStatus("CANCELLED");
         booking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new DashboardChangedEvent(booking.getUserId()));
 
         notificationService.sendToUser(booking.getUserId(),
                 "Booking Cancelled",
@@ -197,10 +200,10 @@ public class BookingService {
 
         analyticsService.trackEvent("booking_cancel",
                 Map.of("bookingId", bookingId),
-                userEmail);
+                user.getEmail());
 
-        log.info("Booking {} cancelled by {}", bookingId, userEmail);
-        return toResponse(booking, null);
+        log.debug("Booking {} cancelled by {}", bookingId, user.getEmail());
+        return toResponse(booking, isCreator ? user.getFullName() : null);
     }
 
     /**
@@ -212,12 +215,18 @@ public class BookingService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Count a user's bookings without loading them.
+     */
+    @Transactional(readOnly = true)
+    public long countByUser(AuthenticatedUser user) {
+        return bookingRepository.countByUserId(user.getId());
+    }
+
     /**
      * List bookings for a specific user.
      */
-    public List<BookingResponse> listByUserEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
+    public List<BookingResponse> listByUser(AuthenticatedUser user) {
         return bookingRepository.findByUserId(user.getId()).stream()
                 .map(b -> toResponse(b, user.getFullName()))
                 .collect(Collectors.toList());
@@ -0,0 +1,18 @@
+package com.campusstudyhub.service;
+
+import com.campusstudyhub.security.TenantContext;
+
+/**
+ * Published when a user's bookings or tasks change, so their cached
+ * dashboard summary is dropped once the transaction commits.
+ */
+public record DashboardChangedEvent(String tenantId, Long userId) {
+
+    /**
+     * Event for a user of the current tenant.
+     */
+    public DashboardChangedEvent(Long userId) {
+        this(TenantContext.getCurrentTenant() != null ? TenantContext.getCurrentTenant()
+                : TenantContext.DEFAULT_TENANT, userId);
+    }
+}
@@ -0,0 +1,148 @@
+package com.campusstudyhub.service;
+
+import com.campusstudyhub.config.AsyncConfig;
+import com.campusstudyhub.entity.Semester;
+import com.campusstudyhub.entity.StudyTask;
+import com.campusstudyhub.security.AuthenticatedUser;
+import com.campusstudyhub.security.TenantContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Builds the student dashboard.
+ *
+ * The semester list and the user's booking count, pending task count and
+ * active tasks are independent queries, so they run in parallel on the
+ * dashboard executor. The per-user part is cached for a short time and
+ * dropped as soon as one of the user's bookings or tasks changes.
+ */
+@Service
+public class DashboardService {
+
+    private final SubjectService subjectService;
+    private final BookingService bookingService;
+    private final StudyTaskService taskService;
+    private final Executor executor;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<String, CachedSummary> cache = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public DashboardService(SubjectService subjectService,
+            BookingService bookingService,
+            StudyTaskService taskService,
+            @Qualifier(AsyncConfig.DASHBOARD_EXECUTOR) Executor executor,
+            @Value("${app.dashboard.cache-ttl:30s}") Duration ttl,
+            @Value("${app.dashboard.cache-max-size:10000}") int maxSize) {
+        this.subjectService = subjectService;
+        this.bookingService = bookingService;
+        this.taskService = taskService;
+        this.executor = executor;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Everything the dashboard page shows for this user.
+     */
+    public Dashboard getDashboard(AuthenticatedUser user) {
+        String key = cacheKey(user.getId());
+        long now = System.currentTimeMillis();
+        CachedSummary cached = cache.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return new Dashboard(subjectService.getAllSemesters(), cached.summary);
+        }
+
+        long evictionsBefore = evictions.get();
+        CompletableFuture<List<Semester>> semesters = supply(subjectService::getAllSemesters);
+        CompletableFuture<Long> bookings = supply(() -> bookingService.countByUser(user));
+        CompletableFuture<Long> pendingTasks = supply(() -> taskService.countPendingTasks(user));
+        CompletableFuture<List<StudyTask>> activeTasks = supply(() -> taskService.listActiveTasks(user));
+
+        Summary summary = new Summary(join(bookings), join(pendingTasks), List.copyOf(join(activeTasks)));
+        if (ttlMillis > 0 && evictions.get() == evictionsBefore) {
+            if (cache.size() >= maxSize) {
+                evictExpired(now);
+            }
+            cache.put(key, new CachedSummary(summary, now + ttlMillis));
+        }
+        return new Dashboard(join(semesters), summary);
+    }
+
+    /**
+     * Drop a user's cached summary once their change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        evictions.incrementAndGet();
+        cache.remove(event.tenantId() + ":" + event.userId());
+    }
+
+    public void clear() {
+        evictions.incrementAndGet();
+        cache.clear();
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(entry -> entry.expiresAt <= now);
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    private static String cacheKey(Long userId) {
+        String tenant = TenantContext.getCurrentTenant();
+        return (tenant != null ? tenant : TenantContext.DEFAULT_TENANT) + ":" + userId;
+    }
+
+    /**
+     * The dashboard's model: semesters plus the user's own summary.
+     */
+    public record Dashboard(List<Semester> semesters, Summary summary) {
+
+        public long bookingCount() {
+            return summary.bookingCount();
+        }
+
+        public long pendingTaskCount() {
+            return summary.pendingTaskCount();
+        }
+
+        public List<StudyTask> activeTasks() {
+            return summary.activeTasks();
+        }
+    }
+
+    public record Summary(long bookingCount, long pendingTaskCount, List<StudyTask> activeTasks) {
+    }
+
+    private record CachedSummary(Summary summary, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.campusstudyhub.service;
 
+import com.campusstudyhub.config.AsyncConfig;
 import com.campusstudyhub.entity.UserDeviceToken;
 import com.campusstudyhub.repository.UserDeviceTokenRepository;
 import com.campusstudyhub.repository.UserRepository;
@@ -7,6 +8,7 @@ import com.google.firebase.messaging.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -15,6 +17,8 @@ import java.util.stream.Collectors;
 
 /**
  * Implementation of NotificationService using Firebase Cloud Messaging.
+ * Sends run on the notification executor so a slow FCM call never holds up
+ * the request that triggered it.
  */
 @Service
 @ConditionalOnProperty(name = "app.fcm.enabled", havingValue = "true")
@@ -31,6 +35,7 @@ public class FcmNotificationService implements NotificationService {
     }
 
     @Override
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendNotification(String message, String recipientEmail) {
         userRepository.findByEmail(recipientEmail).ifPresent(user -> {
             sendToUser(user.getId(), "Campus Study Hub", message);
@@ -38,6 +43,7 @@ public class FcmNotificationService implements NotificationService {
     }
 
     @Override
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
     public void sendToUser(Long userId, String title, String body) {
         List<UserDeviceToken> tokens = tokenRepository.findByUserId(userId);
         if (tokens.isEmpty()) {
@@ -4,13 +4,17 @@ import com.campusstudyhub.dto.*;
 import com.campusstudyhub.entity.*;
 import com.campusstudyhub.exception.ResourceNotFoundException;
 import com.campusstudyhub.repository.*;
+import com.campusstudyhub.security.AuthenticatedUser;
 import com.campusstudyhub.util.FileStorageUtil;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -23,6 +27,7 @@ import java.util.stream.Collectors;
  * Service for resource (notes, papers, videos) management.
  */
 @Service
+@Timed("app.service")
 @Transactional
 public class ResourceService {
 
@@ -59,18 +64,16 @@ public class ResourceService {
      * 
      * @param dto           the upload data
      * @param file          the PDF file
-     * @param uploaderEmail the uploader's email
+     * @param uploader      the current user
      * @return the created note DTO
      */
-    public NoteDto uploadNote(ResourceUploadDto dto, MultipartFile file, String uploaderEmail) throws IOException {
-        log.info("Uploading note: {} for subject {}", dto.getTitle(), dto.getSubjectId());
+    public NoteDto uploadNote(ResourceUploadDto dto, MultipartFile file, AuthenticatedUser uploader)
+            throws IOException {
+        log.debug("Uploading note: {} for subject {}", dto.getTitle(), dto.getSubjectId());
 
         Subject subject = subjectRepository.findById(dto.getSubjectId())
                 .orElseThrow(() -> new ResourceNotFoundException("Subject", "id", dto.getSubjectId()));
 
-        User uploader = userRepository.findByEmail(uploaderEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", uploaderEmail));
-
         // Store file
         String storedFileName = fileStorageUtil.storeNoteFile(file);
         Path filePath = fileStorageUtil.getNoteFilePath(storedFileName);
@@ -82,7 +85,7 @@ public class ResourceService {
         note.setStoredFileName(storedFileName);
         note.setFilePath(filePath.toString());
         note.setFileSize(file.getSize());
-        note.setUploadedBy(uploader);
+        note.setUploadedBy(userRepository.getReferenceById(uploader.getId()));
         note.setSubject(subject);
 
         note = noteRepository.save(note);
@@ -91,9 +94,9 @@ public class ResourceService {
         analyticsService.trackEvent("resource_upload",
                 java.util.Map.of("type", "note", "id", note.getId(), "title", note.getTitle(), "subjectId",
                         subject.getId()),
-                uploaderEmail);
+                uploader.getEmail());
 
-        return toNoteDto(note);
+        return toNoteDto(note, uploader.getFullName());
     }
 
     /**
@@ -138,17 +141,14 @@ public class ResourceService {
      * Delete a note.
      */
     public void deleteNote(Long noteId) {
-        log.info("Deleting note: {}", noteId);
+        log.debug("Deleting note: {}", noteId);
         Note note = getNoteEntity(noteId);
 
-        // Delete file
-        boolean fileDeleted = fileStorageUtil.deleteNoteFile(note.getStoredFileName());
-        if (!fileDeleted) {
-            log.warn("File not found or could not be deleted: {}", note.getStoredFileName());
-        }
-
-        // Delete DB record
+        // Delete DB record, then the file once the delete has committed
         noteRepository.delete(note);
+        String storedFileName = note.getStoredFileName();
+        afterCommit(() -> fileStorageUtil.deleteNoteFile(storedFileName)
+                .whenComplete((deleted, ex) -> logFileDeletion("note", storedFileName, deleted, ex)));
         log.info("Note deleted: {}", noteId);
     }
 
@@ -157,16 +157,13 @@ public class ResourceService {
     /**
      * Upload a new question paper.
      */
-    public QuestionPaperDto uploadPaper(ResourceUploadDto dto, MultipartFile file, String uploaderEmail)
+    public QuestionPaperDto uploadPaper(ResourceUploadDto dto, MultipartFile file, AuthenticatedUser uploader)
             throws IOException {
-        log.info("Uploading paper: {} for subject {}", dto.getTitle(), dto.getSubjectId());
+        log.debug("Uploading paper: {} for subject {}", dto.getTitle(), dto.getSubjectId());
 
         Subject subject = subjectRepository.findById(dto.getSubjectId())
                 .orElseThrow(() -> new ResourceNotFoundException("Subject", "id", dto.getSubjectId()));
 
-        User uploader = userRepository.findByEmail(uploaderEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", uploaderEmail));
-
         // Store file
         String storedFileName = fileStorageUtil.storePaperFile(file);
         Path filePath = fileStorageUtil.getPaperFilePath(storedFileName);
@@ -179,7 +176,7 @@ public class ResourceService {
         paper.setStoredFileName(storedFileName);
         paper.setFilePath(filePath.toString());
         paper.setFileSize(file.getSize());
-        paper.setUploadedBy(uploader);
+        paper.setUploadedBy(userRepository.getReferenceById(uploader.getId()));
         paper.setSubject(subject);
 
         paper = questionPaperRepository.save(paper);
@@ -188,9 +185,9 @@ public class ResourceService {
         analyticsService.trackEvent("resource_upload",
                 java.util.Map.of("type", "paper", "id", paper.getId(), "title", paper.getTitle(), "subjectId",
                         subject.getId()),
-                uploaderEmail);
+                uploader.getEmail());
 
-        return toPaperDto(paper);
+        return toPaperDto(paper, uploader.getFullName());
     }
 
     /**
@@ -235,17 +232,14 @@ public class ResourceService {
      * Delete a question paper.
      */
     public void deletePaper(Long paperId) {
-        log.info("Deleting paper: {}", paperId);
+        log.debug("Deleting paper: {}", paperId);
         QuestionPaper paper = getPaperEntity(paperId);
 
-        // Delete file
-        boolean fileDeleted = fileStorageUtil.deletePaperFile(paper.getStoredFileName());
-        if (!fileDeleted) {
-            log.warn("File not found or could not be deleted: {}", paper.getStoredFileName());
-        }
-
-        // Delete DB record
+        // Delete DB record, then the file once the delete has committed
         questionPaperRepository.delete(paper);
+        String storedFileName = paper.getStoredFileName();
+        afterCommit(() -> fileStorageUtil.deletePaperFile(storedFileName)
+                .whenComplete((deleted, ex) -> logFileDeletion("paper", storedFileName, deleted, ex)));
         log.info("Paper deleted: {}", paperId);
     }
 
@@ -254,21 +248,18 @@ public class ResourceService {
     /**
      * Add a new video link.
      */
-    public VideoLinkDto addVideoLink(VideoLinkDto dto, String addedByEmail) {
-        log.info("Adding video: {} for subject {}", dto.getTitle(), dto.getSubjectId());
+    public VideoLinkDto addVideoLink(VideoLinkDto dto, AuthenticatedUser addedBy) {
+        log.debug("Adding video: {} for subject {}", dto.getTitle(), dto.getSubjectId());
 
         Subject subject = subjectRepository.findById(dto.getSubjectId())
                 .orElseThrow(() -> new ResourceNotFoundException("Subject", "id", dto.getSubjectId()));
 
-        User addedBy = userRepository.findByEmail(addedByEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", addedByEmail));
-
         VideoLink video = new VideoLink();
         video.setTitle(dto.getTitle());
         video.setYoutubeUrl(dto.getYoutubeUrl());
         video.setDescription(dto.getDescription());
         video.setSubject(subject);
-        video.setAddedBy(addedBy);
+        video.setAddedBy(userRepository.getReferenceById(addedBy.getId()));
 
         video = videoLinkRepository.save(video);
         log.info("Video added: {} with ID {}", video.getTitle(), video.getId());
@@ -276,9 +267,9 @@ public class ResourceService {
         analyticsService.trackEvent("resource_upload",
                 java.util.Map.of("type", "video", "id", video.getId(), "title", video.getTitle(), "subjectId",
                         subject.getId()),
-                addedByEmail);
+                addedBy.getEmail());
 
-        return toVideoDto(video);
+        return toVideoDto(video, addedBy.getFullName());
     }
 
     /**
@@ -305,7 +296,7 @@ public class ResourceService {
      * Delete a video link.
      */
     public void deleteVideo(Long videoId) {
-        log.info("Deleting video: {}", videoId);
+        log.debug("Deleting video: {}", videoId);
         VideoLink video = videoLinkRepository.findById(videoId)
                 .orElseThrow(() -> new ResourceNotFoundException("VideoLink", "id", videoId));
         videoLinkRepository.delete(video);
@@ -314,6 +305,35 @@ public class ResourceService {
 
     // ============== HELPER METHODS ==============
 
+    /**
+     * Run an action once the current transaction commits, so a rolled-back
+     * delete never loses its file.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Report a file that outlived its deleted record; the deletion itself
+     * runs on the file executor, after the caller has returned.
+     */
+    private static void logFileDeletion(String type, String storedFileName, Boolean deleted, Throwable ex) {
+        if (ex != null) {
+            log.error("Failed to delete {} file {} after its record was deleted", type, storedFileName, ex);
+        } else if (!Boolean.TRUE.equals(deleted)) {
+            log.warn("{} file {} was not deleted after its record was deleted", type, storedFileName);
+        }
+    }
+
     private Resource loadFileAsResource(Path filePath) {
         try {
             Resource resource = new UrlResource(filePath.toUri());
@@ -327,19 +347,31 @@ public class ResourceService {
     }
 
     private NoteDto toNoteDto(Note note) {
+        return toNoteDto(note, note.getUploadedBy().getFullName());
+    }
+
+    /**
+     * Variant for freshly saved entities whose uploader is only a reference;
+     * the name comes from the principal instead of loading the user row.
+     */
+    private NoteDto toNoteDto(Note note, String uploadedByName) {
         NoteDto dto = new NoteDto();
         dto.setId(note.getId());
         dto.setTitle(note.getTitle());
         dto.setOriginalFileName(note.getOriginalFileName());
         dto.setFileSize(note.getFileSize());
         dto.setUploadedAt(note.getUploadedAt());
-        dto.setUploadedByName(note.getUploadedBy().getFullName());
+        dto.setUploadedByName(uploadedByName);
         dto.setSubjectId(note.getSubject().getId());
         dto.setSubjectName(note.getSubject().getName());
         return dto;
     }
 
     private QuestionPaperDto toPaperDto(QuestionPaper paper) {
+        return toPaperDto(paper, paper.getUploadedBy().getFullName());
+    }
+
+    private QuestionPaperDto toPaperDto(QuestionPaper paper, String uploadedByName) {
         QuestionPaperDto dto = new QuestionPaperDto();
         dto.setId(paper.getId());
         dto.setTitle(paper.getTitle());
@@ -347,13 +379,17 @@ public class ResourceService {
         dto.setOriginalFileName(paper.getOriginalFileName());
         dto.setFileSize(paper.getFileSize());
         dto.setUploadedAt(paper.getUploadedAt());
-        dto.setUploadedByName(paper.getUploadedBy().getFullName());
+        dto.setUploadedByName(uploadedByName);
         dto.setSubjectId(paper.getSubject().getId());
         dto.setSubjectName(paper.getSubject().getName());
         return dto;
     }
 
     private VideoLinkDto toVideoDto(VideoLink video) {
+        return toVideoDto(video, video.getAddedBy().getFullName());
+    }
+
+    private VideoLinkDto toVideoDto(VideoLink video, String addedByName) {
         VideoLinkDto dto = new VideoLinkDto();
         dto.setId(video.getId());
         dto.setTitle(video.getTitle());
@@ -363,7 +399,7 @@ public class ResourceService {
         dto.setDescription(video.getDescription());
         dto.setSubjectId(video.getSubject().getId());
         dto.setSubjectName(video.getSubject().getName());
-        dto.setAddedByName(video.getAddedBy().getFullName());
+        dto.setAddedByName(addedByName);
         dto.setAddedAt(video.getAddedAt());
         return dto;
     }
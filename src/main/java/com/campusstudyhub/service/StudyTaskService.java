@@ -1,12 +1,15 @@
 package com.campusstudyhub.service;
 
+import com.campusstudyhub.dto.TaskSummaryDto;
 import com.campusstudyhub.entity.StudyTask;
-import com.campusstudyhub.entity.User;
 import com.campusstudyhub.repository.StudyTaskRepository;
-import com.campusstudyhub.repository.UserRepository;
+import com.campusstudyhub.repository.TaskStatusCount;
+import com.campusstudyhub.security.AuthenticatedUser;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,50 +18,46 @@ import java.util.List;
 @Service
 public class StudyTaskService {
 
+    private static final List<String> PENDING_STATUSES = List.of("TODO", "IN_PROGRESS");
+    private static final List<String> STATUSES = List.of("TODO", "IN_PROGRESS", "DONE");
+    private static final List<String> PRIORITIES = List.of("LOW", "MEDIUM", "HIGH");
+
     private final StudyTaskRepository taskRepository;
-    private final UserRepository userRepository;
     private final AnalyticsService analyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public StudyTaskService(StudyTaskRepository taskRepository, UserRepository userRepository,
-            AnalyticsService analyticsService) {
+    public StudyTaskService(StudyTaskRepository taskRepository, AnalyticsService analyticsService,
+            ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
         this.analyticsService = analyticsService;
-    }
-
-    private User getUser(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
-    public List<StudyTask> listUserTasks(String email) {
-        User user = getUser(email);
+    public List<StudyTask> listUserTasks(AuthenticatedUser user) {
         return taskRepository.findByUserIdOrderByDueDateAsc(user.getId());
     }
 
     @Transactional(readOnly = true)
-    public List<StudyTask> listActiveTasks(String email) {
-        User user = getUser(email);
+    public List<StudyTask> listActiveTasks(AuthenticatedUser user) {
         return taskRepository.findByUserIdAndStatusOrderByDueDateAsc(user.getId(), "TODO");
     }
 
     @Transactional
-    public StudyTask createTask(StudyTask task, String email) {
-        User user = getUser(email);
+    public StudyTask createTask(StudyTask task, AuthenticatedUser user) {
         task.setUserId(user.getId());
         StudyTask saved = taskRepository.save(task);
+        eventPublisher.publishEvent(new DashboardChangedEvent(user.getId()));
 
         analyticsService.trackEvent("study_task_create",
                 java.util.Map.of("taskId", saved.getId(), "title", saved.getTitle()),
-                email);
+                user.getEmail());
 
         return saved;
     }
 
     @Transactional
-    public StudyTask updateTaskStatus(Long taskId, String status, String email) {
-        User user = getUser(email);
+    public StudyTask updateTaskStatus(Long taskId, String status, AuthenticatedUser user) {
         StudyTask task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
 
@@ -68,17 +67,17 @@ public class StudyTaskService {
 
         task.setStatus(status);
         StudyTask saved = taskRepository.save(task);
+        eventPublisher.publishEvent(new DashboardChangedEvent(user.getId()));
 
         analyticsService.trackEvent("study_task_status_change",
                 java.util.Map.of("taskId", taskId, "newStatus", status),
-                email);
+                user.getEmail());
 
         return saved;
     }
 
     @Transactional
-    public void deleteTask(Long taskId, String email) {
-        User user = getUser(email);
+    public void deleteTask(Long taskId, AuthenticatedUser user) {
         StudyTask task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found: " + taskId));
 
@@ -87,12 +86,44 @@ public class StudyTaskService {
         }
 
         taskRepository.delete(task);
+        eventPublisher.publishEvent(new DashboardChangedEvent(user.getId()));
     }
 
     @Transactional(readOnly = true)
-    public long countPendingTasks(String email) {
-        User user = getUser(email);
-        return taskRepository.countByUserIdAndStatus(user.getId(), "TODO") +
-                taskRepository.countByUserIdAndStatus(user.getId(), "IN_PROGRESS");
+    public long countPendingTasks(AuthenticatedUser user) {
+        return taskRepository.countByUserIdAndStatusIn(user.getId(), PENDING_STATUSES);
+    }
+
+    /**
+     * Counts per status, open tasks per priority, overdue tasks and the next
+     * task due, from one grouped query (plus a point lookup for the next task
+     * when there is one).
+     */
+    @Transactional(readOnly = true)
+    public TaskSummaryDto summarize(AuthenticatedUser user) {
+        TaskSummaryDto summary = new TaskSummaryDto();
+        STATUSES.forEach(status -> summary.getByStatus().put(status, 0L));
+        PRIORITIES.forEach(priority -> summary.getOpenByPriority().put(priority, 0L));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextDue = null;
+        for (TaskStatusCount row : taskRepository.summarizeByUserId(user.getId(), now)) {
+            summary.setTotal(summary.getTotal() + row.total());
+            summary.setOverdue(summary.getOverdue() + row.overdue());
+            summary.getByStatus().merge(row.status(), row.total(), Long::sum);
+            if (!"DONE".equals(row.status())) {
+                summary.getOpenByPriority().merge(row.priority(), row.total(), Long::sum);
+            }
+            if (row.nextDue() != null && (nextDue == null || row.nextDue().isBefore(nextDue))) {
+                nextDue = row.nextDue();
+            }
+        }
+
+        if (nextDue != null) {
+            taskRepository.findFirstByUserIdAndStatusInAndDueDateOrderByIdAsc(user.getId(), PENDING_STATUSES, nextDue)
+                    .ifPresent(task -> summary.setNextDue(new TaskSummaryDto.NextDueTask(task.getId(),
+                            task.getTitle(), task.getStatus(), task.getPriority(), task.getDueDate())));
+        }
+        return summary;
     }
 }
@@ -9,6 +9,7 @@ import com.campusstudyhub.repository.QuestionPaperRepository;
 import com.campusstudyhub.repository.SemesterRepository;
 import com.campusstudyhub.repository.SubjectRepository;
 import com.campusstudyhub.repository.VideoLinkRepository;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
  * Service for subject management operations.
  */
 @Service
+@Timed("app.service")
 @Transactional
 public class SubjectService {
 
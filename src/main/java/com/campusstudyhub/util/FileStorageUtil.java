@@ -2,7 +2,9 @@ package com.campusstudyhub.util;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.campusstudyhub.config.AsyncConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -13,6 +15,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Utility class for file storage operations.
@@ -152,23 +155,25 @@ public class FileStorageUtil {
     }
 
     /**
-     * Delete a note file.
+     * Delete a note file on the file executor.
      * 
      * @param storedFilename the stored filename
-     * @return true if deleted successfully
+     * @return completes with true if deleted successfully
      */
-    public boolean deleteNoteFile(String storedFilename) {
-        return deleteFile(notesPath.resolve(storedFilename));
+    @Async(AsyncConfig.FILE_EXECUTOR)
+    public CompletableFuture<Boolean> deleteNoteFile(String storedFilename) {
+        return CompletableFuture.completedFuture(deleteFile(notesPath.resolve(storedFilename)));
     }
 
     /**
-     * Delete a question paper file.
+     * Delete a question paper file on the file executor.
      * 
      * @param storedFilename the stored filename
-     * @return true if deleted successfully
+     * @return completes with true if deleted successfully
      */
-    public boolean deletePaperFile(String storedFilename) {
-        return deleteFile(papersPath.resolve(storedFilename));
+    @Async(AsyncConfig.FILE_EXECUTOR)
+    public CompletableFuture<Boolean> deletePaperFile(String storedFilename) {
+        return CompletableFuture.completedFuture(deleteFile(papersPath.resolve(storedFilename)));
     }
 
     /**
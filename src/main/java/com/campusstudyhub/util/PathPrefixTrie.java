@@ -0,0 +1,72 @@
+package com.campusstudyhub.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Character trie over URL path prefixes.
+ * Built once at startup; lookups walk the request path a single time instead
+ * of testing every prefix with {@code startsWith}.
+ *
+ * @param <T> the value stored per prefix
+ */
+public class PathPrefixTrie<T> {
+
+    private final Node<T> root = new Node<>();
+    private int maxDepth;
+
+    /**
+     * Register a value under a path prefix. Values sharing a prefix keep
+     * their insertion order.
+     */
+    public void insert(String prefix, T value) {
+        Node<T> node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Node<>());
+        }
+        node.values.add(value);
+        maxDepth = Math.max(maxDepth, prefix.length());
+    }
+
+    /**
+     * Find the first value accepted by the predicate, trying the longest
+     * matching prefix first and falling back to shorter ones.
+     *
+     * @param path   the request path
+     * @param accept extra conditions a value must satisfy
+     * @return the matching value, or null if none matches
+     */
+    public T findLongestMatch(String path, Predicate<T> accept) {
+        @SuppressWarnings("unchecked")
+        Node<T>[] matched = new Node[Math.min(path.length(), maxDepth) + 1];
+        int count = 0;
+
+        Node<T> node = root;
+        if (!node.values.isEmpty()) {
+            matched[count++] = node;
+        }
+        for (int i = 0; i < path.length() && node != null; i++) {
+            node = node.children.get(path.charAt(i));
+            if (node != null && !node.values.isEmpty()) {
+                matched[count++] = node;
+            }
+        }
+
+        for (int i = count - 1; i >= 0; i--) {
+            for (T value : matched[i].values) {
+                if (accept.test(value)) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<T> values = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,49 @@
+package com.campusstudyhub.util;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf-distributed ranks over {@code size} items: rank {@code k} (0-based) is
+ * drawn with probability proportional to {@code 1 / (k + 1)^exponent}, so a
+ * few low ranks take most of the draws. An exponent of 0 is uniform.
+ *
+ * The cumulative distribution is computed once and sampled by binary search,
+ * so instances are immutable and safe to share between threads; each thread
+ * passes its own random generator.
+ */
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    public ZipfDistribution(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must not be negative: " + exponent);
+        }
+        cumulative = new double[size];
+        double total = 0;
+        for (int k = 0; k < size; k++) {
+            total += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= total;
+        }
+        cumulative[size - 1] = 1.0;
+    }
+
+    /**
+     * Draws a rank in {@code [0, size)}.
+     */
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,8 @@
+-- ============================================================
+-- V11: Shared token buckets for cluster-wide rate limiting
+-- ============================================================
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key      VARCHAR(200)    PRIMARY KEY,
+    tokens          BIGINT          NOT NULL,
+    refilled_at     BIGINT          NOT NULL
+);
@@ -0,0 +1,36 @@
+-- ============================================================
+-- V12: Tenant-leading composite indexes
+-- ============================================================
+-- Indexes are built CONCURRENTLY, which Flyway runs outside a transaction,
+-- so writes continue while they build; IF [NOT] EXISTS makes a retry safe.
+-- Every query on a tenant-scoped table now carries tenant_id = ?, so indexes
+-- lead with tenant_id and a lookup only walks that tenant's rows. The
+-- single-column tenant indexes from V10 and the per-user/per-room indexes
+-- they replace are prefixes of the new ones and are dropped.
+
+-- users: login lookup by email
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_tenant_email ON users (tenant_id, email);
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_tenant_id;
+
+-- rooms: lookup by name
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rooms_tenant_name ON rooms (tenant_id, name);
+DROP INDEX CONCURRENTLY IF EXISTS idx_rooms_tenant_id;
+
+-- bookings: overlap checks per room and time, "my bookings", pending queue
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_tenant_room_start ON bookings (tenant_id, room_id, start_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_tenant_user ON bookings (tenant_id, user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bookings_tenant_status ON bookings (tenant_id, status);
+DROP INDEX CONCURRENTLY IF EXISTS idx_bookings_tenant_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_bookings_room_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_bookings_user;
+
+-- study_tasks: a user's tasks by due date, and counts by status
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_tenant_user_due ON study_tasks (tenant_id, user_id, due_date);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_tenant_user_status ON study_tasks (tenant_id, user_id, status);
+DROP INDEX CONCURRENTLY IF EXISTS idx_study_tasks_tenant_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_user;
+DROP INDEX CONCURRENTLY IF EXISTS idx_task_status;
+
+-- notes: a subject's notes, newest first
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notes_tenant_subject ON notes (tenant_id, subject_id, uploaded_at);
+DROP INDEX CONCURRENTLY IF EXISTS idx_notes_tenant_id;
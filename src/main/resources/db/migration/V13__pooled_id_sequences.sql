@@ -0,0 +1,19 @@
+-- ============================================================
+-- V13: Pooled ID sequences
+-- ============================================================
+-- Entities now draw IDs from these sequences in blocks of 50 (Hibernate's
+-- pooled optimizer) instead of relying on the column default per row, which
+-- lets inserts be batched. The increment must match allocationSize on the
+-- entity. The column defaults keep working for raw SQL inserts: each nextval
+-- still hands out a range no one else uses.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE semesters_id_seq INCREMENT BY 50;
+ALTER SEQUENCE subjects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE notes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE question_papers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE video_links_id_seq INCREMENT BY 50;
+ALTER SEQUENCE rooms_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE study_tasks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_device_tokens_id_seq INCREMENT BY 50;
+ALTER SEQUENCE analytics_events_id_seq INCREMENT BY 50;
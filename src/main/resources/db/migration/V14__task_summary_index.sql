@@ -0,0 +1,12 @@
+-- ============================================================
+-- V14: One study_tasks index for listing, filtering and summaries
+-- ============================================================
+-- Built CONCURRENTLY (outside a transaction, see V12) so writes continue.
+-- (tenant_id, user_id, status, due_date) answers the per-status counts of
+-- the task summary from the index alone, serves "active tasks by due date"
+-- directly, and still narrows "all of a user's tasks" to that user's rows,
+-- so the two V12 indexes it replaces only cost writes.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_tenant_user_status_due
+    ON study_tasks (tenant_id, user_id, status, due_date);
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_tenant_user_due;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_tenant_user_status;
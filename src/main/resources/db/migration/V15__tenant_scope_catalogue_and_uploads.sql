@@ -0,0 +1,29 @@
+-- ============================================================
+-- V15: Tenant-scope semesters, subjects, papers and videos
+-- ============================================================
+-- Indexes are built CONCURRENTLY, which Flyway runs outside a transaction,
+-- so writes continue while they build; IF [NOT] EXISTS makes a retry safe.
+-- Notes were scoped in V10 but the subjects they hang off, and the other
+-- uploads, were shared by every tenant. Existing rows stay with 'default'.
+
+ALTER TABLE semesters ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(50) NOT NULL DEFAULT 'default';
+ALTER TABLE subjects ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(50) NOT NULL DEFAULT 'default';
+ALTER TABLE question_papers ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(50) NOT NULL DEFAULT 'default';
+ALTER TABLE video_links ADD COLUMN IF NOT EXISTS tenant_id VARCHAR(50) NOT NULL DEFAULT 'default';
+
+-- Semester numbers and user emails are unique within a tenant, not globally,
+-- so the same email can register on two campuses
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_semesters_tenant_number ON semesters (tenant_id, number);
+ALTER TABLE semesters DROP CONSTRAINT IF EXISTS semesters_number_key;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_users_tenant_email ON users (tenant_id, email);
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_email_key;
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_tenant_email;
+
+-- subjects: a semester's subjects. idx_subjects_semester_id stays, for the
+-- foreign key check when a semester is deleted.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subjects_tenant_semester ON subjects (tenant_id, semester_id);
+
+-- question_papers and video_links: a subject's uploads
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_papers_tenant_subject ON question_papers (tenant_id, subject_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_tenant_subject ON video_links (tenant_id, subject_id);
@@ -0,0 +1,11 @@
+-- ============================================================
+-- V1: Create users table
+-- ============================================================
+CREATE TABLE IF NOT EXISTS users (
+    id              BIGSERIAL       PRIMARY KEY,
+    full_name       VARCHAR(255)    NOT NULL,
+    email           VARCHAR(255)    NOT NULL UNIQUE,
+    password        VARCHAR(255)    NOT NULL,
+    role            VARCHAR(255)    NOT NULL DEFAULT 'ROLE_STUDENT',
+    created_at      TIMESTAMP       NOT NULL DEFAULT NOW()
+);
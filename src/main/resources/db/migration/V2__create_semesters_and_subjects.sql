@@ -0,0 +1,16 @@
+-- ============================================================
+-- V2: Create semesters and subjects tables
+-- ============================================================
+CREATE TABLE IF NOT EXISTS semesters (
+    id              BIGSERIAL       PRIMARY KEY,
+    number          INT             NOT NULL UNIQUE,
+    name            VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS subjects (
+    id              BIGSERIAL       PRIMARY KEY,
+    name            VARCHAR(255)    NOT NULL,
+    code            VARCHAR(50),
+    description     VARCHAR(500),
+    semester_id     BIGINT          NOT NULL REFERENCES semesters(id)
+);
@@ -0,0 +1,38 @@
+-- ============================================================
+-- V3: Create notes, question_papers and video_links tables
+-- ============================================================
+CREATE TABLE IF NOT EXISTS notes (
+    id                  BIGSERIAL       PRIMARY KEY,
+    title               VARCHAR(255)    NOT NULL,
+    original_file_name  VARCHAR(255)    NOT NULL,
+    stored_file_name    VARCHAR(255)    NOT NULL,
+    file_path           VARCHAR(255)    NOT NULL,
+    file_size           BIGINT,
+    uploaded_at         TIMESTAMP       NOT NULL DEFAULT NOW(),
+    uploaded_by         BIGINT          NOT NULL REFERENCES users(id),
+    subject_id          BIGINT          NOT NULL REFERENCES subjects(id)
+);
+
+CREATE TABLE IF NOT EXISTS question_papers (
+    id                  BIGSERIAL       PRIMARY KEY,
+    title               VARCHAR(255)    NOT NULL,
+    exam_year           INT,
+    original_file_name  VARCHAR(255)    NOT NULL,
+    stored_file_name    VARCHAR(255)    NOT NULL,
+    file_path           VARCHAR(255)    NOT NULL,
+    file_size           BIGINT,
+    uploaded_at         TIMESTAMP       NOT NULL DEFAULT NOW(),
+    uploaded_by         BIGINT          NOT NULL REFERENCES users(id),
+    subject_id          BIGINT          NOT NULL REFERENCES subjects(id)
+);
+
+CREATE TABLE IF NOT EXISTS video_links (
+    id                  BIGSERIAL       PRIMARY KEY,
+    title               VARCHAR(255)    NOT NULL,
+    youtube_url         VARCHAR(255)    NOT NULL,
+    thumbnail_url       VARCHAR(255),
+    description         VARCHAR(500),
+    subject_id          BIGINT          NOT NULL REFERENCES subjects(id),
+    added_by            BIGINT          NOT NULL REFERENCES users(id),
+    added_at            TIMESTAMP       NOT NULL DEFAULT NOW()
+);
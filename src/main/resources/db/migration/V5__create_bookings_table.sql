@@ -13,5 +13,5 @@ CREATE TABLE IF NOT EXISTS bookings (
     CONSTRAINT chk_booking_times CHECK (end_at > start_at)
 );
 
-CREATE INDEX idx_bookings_room_status ON bookings (room_id, status);
-CREATE INDEX idx_bookings_user ON bookings (user_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_room_status ON bookings (room_id, status);
+CREATE INDEX IF NOT EXISTS idx_bookings_user ON bookings (user_id);
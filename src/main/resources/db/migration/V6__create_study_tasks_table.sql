@@ -1,5 +1,5 @@
 -- V6: Create study_tasks table
-CREATE TABLE study_tasks (
+CREATE TABLE IF NOT EXISTS study_tasks (
     id BIGSERIAL PRIMARY KEY,
     user_id BIGINT NOT NULL,
     title VARCHAR(255) NOT NULL,
@@ -10,5 +10,5 @@ CREATE TABLE study_tasks (
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
-CREATE INDEX idx_task_user ON study_tasks(user_id);
-CREATE INDEX idx_task_status ON study_tasks(status);
+CREATE INDEX IF NOT EXISTS idx_task_user ON study_tasks(user_id);
+CREATE INDEX IF NOT EXISTS idx_task_status ON study_tasks(status);
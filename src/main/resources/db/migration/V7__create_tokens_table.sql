@@ -1,9 +1,9 @@
 -- V7: Create user_device_tokens table
-CREATE TABLE user_device_tokens (
+CREATE TABLE IF NOT EXISTS user_device_tokens (
     id BIGSERIAL PRIMARY KEY,
     user_id BIGINT NOT NULL,
     token VARCHAR(500) NOT NULL UNIQUE,
     last_used_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
-CREATE INDEX idx_token_user ON user_device_tokens(user_id);
+CREATE INDEX IF NOT EXISTS idx_token_user ON user_device_tokens(user_id);
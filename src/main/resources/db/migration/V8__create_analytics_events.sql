@@ -1,5 +1,5 @@
 -- V8: Create analytics_events table
-CREATE TABLE analytics_events (
+CREATE TABLE IF NOT EXISTS analytics_events (
     id BIGSERIAL PRIMARY KEY,
     event_type VARCHAR(100) NOT NULL,
     payload JSONB,
@@ -8,5 +8,5 @@ CREATE TABLE analytics_events (
     created_at TIMESTAMPTZ DEFAULT now()
 );
 
-CREATE INDEX idx_analytics_event_type ON analytics_events(event_type);
-CREATE INDEX idx_analytics_created_at ON analytics_events(created_at);
+CREATE INDEX IF NOT EXISTS idx_analytics_event_type ON analytics_events(event_type);
+CREATE INDEX IF NOT EXISTS idx_analytics_created_at ON analytics_events(created_at);
@@ -1,12 +1,14 @@
 -- ============================================================
 -- V9: Add indices for performance optimization
 -- ============================================================
+-- Indexes are built CONCURRENTLY, which Flyway runs outside a transaction,
+-- so writes continue while they build; IF [NOT] EXISTS makes a retry safe.
 
 -- Index for searching rooms by building and floor
-CREATE INDEX idx_rooms_building_floor ON rooms(building, floor);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rooms_building_floor ON rooms(building, floor);
 
 -- Index for subject lookups by semester (often used in dashboard/search)
-CREATE INDEX idx_subjects_semester_id ON subjects(semester_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subjects_semester_id ON subjects(semester_id);
 
 -- Composite index for analytics queries filtered by type and time
-CREATE INDEX idx_analytics_type_created ON analytics_events(event_type, created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_analytics_type_created ON analytics_events(event_type, created_at);
@@ -0,0 +1,50 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class GuardedDataSourceTest {
+
+    @Test
+    void callersBeyondPoolSizeGetClearErrorUntilAConnectionIsClosed() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(connection);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GuardedDataSource guarded = new GuardedDataSource(pool, "shared", 1, Duration.ofMillis(50), registry);
+
+        Connection first = guarded.getConnection();
+        SQLTransientConnectionException e = assertThrows(SQLTransientConnectionException.class,
+                guarded::getConnection);
+        assertTrue(e.getMessage().contains("All 1 connections of database pool 'shared' are in use"));
+        assertEquals(1.0, registry.get("db.connection.guard.rejected").tag("pool", "shared").counter().count());
+
+        first.close();
+        first.close();
+        verify(connection, times(2)).close();
+
+        guarded.getConnection();
+        assertThrows(SQLTransientConnectionException.class, guarded::getConnection,
+                "closing twice must release the permit only once");
+    }
+
+    @Test
+    void permitIsReturnedWhenPoolFails() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool down"))
+                .thenReturn(mock(Connection.class));
+        GuardedDataSource guarded = new GuardedDataSource(pool, "shared", 1, Duration.ofMillis(50),
+                new SimpleMeterRegistry());
+
+        assertThrows(SQLTransientConnectionException.class, guarded::getConnection);
+        assertNotNull(guarded.getConnection());
+    }
+}
@@ -0,0 +1,78 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedExecutorsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private ThreadPoolTaskExecutor start(AsyncProperties.RejectionPolicy policy) {
+        executor = InstrumentedExecutors.create("analytics", new AsyncProperties.Pool(1, 1, 1, policy),
+                Duration.ofSeconds(1), false, registry);
+        executor.initialize();
+        return executor;
+    }
+
+    @Test
+    void saturatedPoolDiscardsAndCountsRejections() throws Exception {
+        ThreadPoolTaskExecutor pool = start(AsyncProperties.RejectionPolicy.DISCARD);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        pool.execute(() -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        pool.execute(() -> { });
+        pool.execute(() -> fail("discarded task must not run"));
+
+        assertEquals(1.0, registry.get("executor.rejected").tag("name", "analytics").counter().count());
+        assertEquals(1.0, registry.get("executor.active").tag("name", "analytics").gauge().value());
+        assertEquals(1.0, registry.get("executor.queued").tag("name", "analytics").gauge().value());
+
+        release.countDown();
+    }
+
+    @Test
+    void tasksCarryTenantAndAreTimed() throws Exception {
+        ThreadPoolTaskExecutor pool = start(AsyncProperties.RejectionPolicy.ABORT);
+        AtomicReference<String> seen = new AtomicReference<>();
+        TenantContext.setCurrentTenant("campus-a");
+
+        pool.submit(() -> seen.set(TenantContext.getCurrentTenant())).get(5, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertEquals("campus-a", seen.get());
+        assertEquals(1, registry.get("executor").tag("name", "analytics").timer().count());
+        assertEquals(1, registry.get("executor.idle").tag("name", "analytics").timer().count());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.campusstudyhub.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    private final JfrProperties properties = new JfrProperties();
+    private JfrRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDirectory(directory.toString());
+        properties.setMaxDuration(Duration.ofMinutes(1));
+        recorder = new JfrRecorder(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.shutdown();
+    }
+
+    @Test
+    void durationIsCappedAndOnlyOneRecordingRunsAtATime() {
+        JfrRecorder.RecordingInfo started = recorder.start("profile", Duration.ofHours(3));
+
+        assertEquals("profile", started.profile());
+        assertEquals(Duration.ofMinutes(1), started.duration());
+        assertFalse(started.downloadable());
+        assertThrows(IllegalStateException.class, () -> recorder.start(null, null));
+        assertThrows(IllegalStateException.class, () -> recorder.file(started.id()));
+    }
+
+    @Test
+    void stoppedRecordingCanBeDownloaded() throws Exception {
+        long id = recorder.start(null, Duration.ofSeconds(30)).id();
+
+        JfrRecorder.RecordingInfo stopped = recorder.stop(id);
+
+        assertTrue(stopped.downloadable());
+        Path file = recorder.file(id);
+        assertEquals(directory, file.getParent());
+        assertTrue(Files.size(file) > 0);
+    }
+
+    @Test
+    void rejectsUnknownProfilesAndRecordings() {
+        assertThrows(IllegalArgumentException.class, () -> recorder.start("everything", null));
+        assertThrows(IllegalArgumentException.class, () -> recorder.start(null, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> recorder.stop(-1));
+    }
+
+    @Test
+    void oldestFilesArePrunedToMakeRoomForTheNextRecording() throws Exception {
+        properties.setMaxFiles(3);
+        properties.setMaxRecordingSize(DataSize.ofBytes(100));
+        properties.setMaxTotalSize(DataSize.ofBytes(300));
+        Instant now = Instant.now();
+        for (int i = 0; i < 4; i++) {
+            Path old = Files.write(directory.resolve("old-" + i + ".jfr"), new byte[50]);
+            Files.setLastModifiedTime(old, FileTime.from(now.minusSeconds(100 - i)));
+        }
+        Files.writeString(directory.resolve("notes.txt"), "kept");
+
+        recorder.prune(directory, properties.getMaxRecordingSize().toBytes(), 1);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(Stream.of("notes.txt", "old-2.jfr", "old-3.jfr").toList(),
+                    files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+    }
+}
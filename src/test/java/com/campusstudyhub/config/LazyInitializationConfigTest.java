@@ -0,0 +1,24 @@
+package com.campusstudyhub.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyInitializationConfigTest {
+
+    private final LazyInitializationExcludeFilter filter = LazyInitializationConfig.eagerStartupBeans();
+
+    @Test
+    void firebaseSetupStaysEagerSinceNothingDependsOnIt() {
+        assertTrue(filter.isExcluded("firebaseConfig", new RootBeanDefinition(FirebaseConfig.class),
+                FirebaseConfig.class));
+    }
+
+    @Test
+    void otherBeansAreLazy() {
+        assertFalse(filter.isExcluded("webMvcConfig", new RootBeanDefinition(WebMvcConfig.class),
+                WebMvcConfig.class));
+    }
+}
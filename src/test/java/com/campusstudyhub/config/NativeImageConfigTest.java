@@ -0,0 +1,38 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.dto.SubjectDto;
+import com.campusstudyhub.entity.Semester;
+import com.campusstudyhub.repository.TaskStatusCount;
+import com.google.firebase.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeImageConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeImageConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void viewModelsCanBeReadByTemplates() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(SubjectDto.class.getMethod("getName")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(Semester.class.getMethod("getSubjects")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TaskStatusCount.class).test(hints));
+    }
+
+    @Test
+    void firebaseMessagesCanBeSerialized() {
+        assertTrue(RuntimeHintsPredicates.reflection().onField(Message.class, "token").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("admin_sdk.properties").test(hints));
+    }
+}
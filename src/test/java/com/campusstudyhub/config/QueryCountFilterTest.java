@@ -0,0 +1,93 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for per-request query counting and the SLO histogram filter.
+ */
+class QueryCountFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LatencyMetricsProperties properties = new LatencyMetricsProperties();
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    private MockHttpServletRequest request(String method, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/ignored");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private FilterChain runningQueries(int queries) {
+        return (req, res) -> {
+            for (int i = 0; i < queries; i++) {
+                inspector.inspect("select 1");
+            }
+        };
+    }
+
+    @Test
+    void recordsStatementsPerRequestByRoute() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(registry, properties);
+
+        filter.doFilter(request("GET", "/subjects/{id}"), new MockHttpServletResponse(), runningQueries(3));
+        filter.doFilter(request("GET", "/subjects/{id}"), new MockHttpServletResponse(), runningQueries(5));
+
+        DistributionSummary summary = registry.get("db.queries.per.request")
+                .tag("uri", "/subjects/{id}").tag("method", "GET").summary();
+        assertEquals(2, summary.count());
+        assertEquals(8.0, summary.totalAmount());
+        assertEquals(5.0, summary.max());
+        assertNull(registry.find("db.queries.per.request.exceeded").counter());
+    }
+
+    @Test
+    void countsRequestsOverTheThreshold() throws Exception {
+        properties.setQueryWarnThreshold(10);
+        QueryCountFilter filter = new QueryCountFilter(registry, properties);
+
+        filter.doFilter(request("GET", "/semesters/{id}"), new MockHttpServletResponse(), runningQueries(11));
+
+        assertEquals(1.0, registry.get("db.queries.per.request.exceeded")
+                .tag("uri", "/semesters/{id}").counter().count());
+    }
+
+    @Test
+    void skipsRequestsWithoutQueriesAndCountsNothingOutsideARequest() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(registry, properties);
+
+        filter.doFilter(request("GET", "/css/**"), new MockHttpServletResponse(), runningQueries(0));
+        inspector.inspect("select 1");
+
+        assertNull(registry.find("db.queries.per.request").summary());
+        assertEquals(0, QueryCountInspector.end());
+    }
+
+    @Test
+    void sloBucketsOnlyOnConfiguredRoutes() {
+        properties.setSloBuckets(List.of(Duration.ofMillis(100), Duration.ofMillis(500)));
+        registry.config().meterFilter(new MetricsConfig().sloMeterFilter(properties));
+
+        Timer booking = Timer.builder(MetricsConfig.HTTP_SERVER_REQUESTS)
+                .tag("uri", "/api/v1/bookings/{id}/approve").register(registry);
+        Timer semesters = Timer.builder(MetricsConfig.HTTP_SERVER_REQUESTS)
+                .tag("uri", "/semesters").register(registry);
+        booking.record(Duration.ofMillis(200));
+        semesters.record(Duration.ofMillis(200));
+
+        assertEquals(2, booking.takeSnapshot().histogramCounts().length);
+        assertEquals(1.0, booking.takeSnapshot().histogramCounts()[1].count());
+        assertEquals(0, semesters.takeSnapshot().histogramCounts().length);
+    }
+}
@@ -0,0 +1,127 @@
+package com.campusstudyhub.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaOneConnection = mock(Connection.class);
+    private final Connection replicaTwoConnection = mock(Connection.class);
+    private final DataSource replicaOne = mock(DataSource.class);
+    private final DataSource replicaTwo = mock(DataSource.class);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    private ReplicaRoutingDataSource routingDataSource(double replicaTwoLag) throws Exception {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaOne.getConnection()).thenReturn(replicaOneConnection);
+        when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+        reportLag(replicaOneConnection, 0);
+        reportLag(replicaTwoConnection, replicaTwoLag);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("one", replicaOne);
+        replicas.put("two", replicaTwo);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicas,
+                Duration.ofSeconds(10), Duration.ofMinutes(1), "SELECT lag", registry);
+        dataSource.checkReplicas();
+        return dataSource;
+    }
+
+    private static void reportLag(Connection connection, double lagSeconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SELECT lag")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+    }
+
+    @Test
+    void readOnlyTransactionsAlternateBetweenReplicas() throws Exception {
+        ReplicaRoutingDataSource dataSource = routingDataSource(0);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        List<Connection> connections = List.of(dataSource.getConnection(), dataSource.getConnection());
+
+        assertTrue(connections.contains(replicaOneConnection));
+        assertTrue(connections.contains(replicaTwoConnection));
+        assertEquals(2.0, registry.get("db.routing").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void writesGoToPrimary() throws Exception {
+        ReplicaRoutingDataSource dataSource = routingDataSource(0);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() throws Exception {
+        ReplicaRoutingDataSource dataSource = routingDataSource(30);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertFalse(dataSource.isHealthy("two"));
+        assertSame(replicaOneConnection, dataSource.getConnection());
+        assertSame(replicaOneConnection, dataSource.getConnection());
+        assertEquals(30.0, registry.get("db.replica.lag").tag("replica", "two").gauge().value());
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() throws Exception {
+        ReplicaRoutingDataSource dataSource = routingDataSource(30);
+        when(replicaOne.getConnection()).thenThrow(new SQLException("connection refused"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertFalse(dataSource.isHealthy("one"));
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryAfterCommit() throws Exception {
+        ReplicaRoutingDataSource dataSource = routingDataSource(0);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("alice@campus.com", null, List.of()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        dataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("bob@campus.com", null, List.of()));
+        assertNotSame(primaryConnection, dataSource.getConnection());
+    }
+}
@@ -0,0 +1,60 @@
+package com.campusstudyhub.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTasksTest {
+
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+    private StartupTasks tasks;
+
+    @AfterEach
+    void tearDown() {
+        tasks.shutdown();
+    }
+
+    private static AvailabilityChangeEvent<ReadinessState> readiness(ReadinessState state) {
+        return new AvailabilityChangeEvent<>(new Object(), state);
+    }
+
+    @Test
+    void runsImmediatelyUnlessDeferred() {
+        tasks = new StartupTasks(false);
+
+        tasks.run("seed", () -> ran.add(Thread.currentThread().getName()));
+
+        assertEquals(List.of(Thread.currentThread().getName()), ran);
+    }
+
+    @Test
+    void deferredTasksWaitForReadinessAndRunInOrder() throws Exception {
+        tasks = new StartupTasks(true);
+        CountDownLatch done = new CountDownLatch(1);
+
+        tasks.run("seed", () -> ran.add("seed"));
+        tasks.run("broken", () -> {
+            throw new IllegalStateException("database down");
+        });
+        tasks.run("warm-up", () -> ran.add("warm-up"));
+        tasks.onReadiness(readiness(ReadinessState.REFUSING_TRAFFIC));
+        assertTrue(ran.isEmpty());
+
+        tasks.onReadiness(readiness(ReadinessState.ACCEPTING_TRAFFIC));
+        tasks.run("late", () -> {
+            ran.add("late");
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("seed", "warm-up", "late"), ran);
+    }
+}
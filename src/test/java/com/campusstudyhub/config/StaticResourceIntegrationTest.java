@@ -0,0 +1,112 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.RateLimitingFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Static resources are checked through MockMvc; response compression is done
+ * by the embedded server, so that test goes over HTTP.
+ * {@code compression-fixture.css.gz} in the test resources stands in for the
+ * variants written at package time.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb_static;MODE=PostgreSQL;INIT=CREATE TYPE IF NOT EXISTS JSONB AS TEXT",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=password",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class StaticResourceIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceUrlProvider resourceUrlProvider;
+
+    @Autowired
+    private RateLimitingFilter rateLimitingFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitingFilter.reset();
+    }
+
+    @Test
+    void stylesheetsGetContentHashUrlsCachedForAYear() throws Exception {
+        String url = resourceUrlProvider.getForLookupPath("/css/layout.css");
+        assertTrue(url.matches("/css/layout-[0-9a-f]{32}\\.css"), url);
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("max-age=31536000")))
+                .andExpect(header().string("Cache-Control", containsString("immutable")));
+    }
+
+    @Test
+    void unknownVersionIsNotServed() throws Exception {
+        mockMvc.perform(get("/css/layout-00000000000000000000000000000000.css"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void precompressedVariantIsServedToClientsThatAcceptIt() throws Exception {
+        String url = resourceUrlProvider.getForLookupPath("/css/compression-fixture.css");
+
+        mockMvc.perform(get(url).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", containsString("Accept-Encoding")))
+                .andExpect(header().string("Cache-Control", containsString("immutable")));
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"));
+    }
+
+    @Test
+    void pagesAreGzippedByTheServer() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/login"))
+                .header("Accept-Encoding", "gzip")
+                .build();
+
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertTrue(new String(body.readAllBytes(), StandardCharsets.UTF_8).contains("<html"));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TenantRoutingDataSourceTest {
+
+    private final Connection sharedConnection = mock(Connection.class);
+    private final Connection northConnection = mock(Connection.class);
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    private TenantRoutingDataSource routingDataSource() throws Exception {
+        DataSource shared = mock(DataSource.class);
+        DataSource north = mock(DataSource.class);
+        when(shared.getConnection()).thenReturn(sharedConnection);
+        when(north.getConnection()).thenReturn(northConnection);
+        return new TenantRoutingDataSource(shared, Map.of("north-campus", north));
+    }
+
+    @Test
+    void dedicatedTenantGetsItsOwnPool() throws Exception {
+        TenantRoutingDataSource dataSource = routingDataSource();
+        TenantContext.setCurrentTenant("north-campus");
+
+        assertSame(northConnection, dataSource.getConnection());
+        assertTrue(dataSource.isDedicated("north-campus"));
+    }
+
+    @Test
+    void otherTenantsAndBackgroundWorkUseSharedPool() throws Exception {
+        TenantRoutingDataSource dataSource = routingDataSource();
+
+        assertSame(sharedConnection, dataSource.getConnection());
+
+        TenantContext.setCurrentTenant("south-campus");
+        assertSame(sharedConnection, dataSource.getConnection());
+        assertFalse(dataSource.isDedicated("south-campus"));
+    }
+}
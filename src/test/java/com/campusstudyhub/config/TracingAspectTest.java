@@ -0,0 +1,87 @@
+package com.campusstudyhub.config;
+
+import com.campusstudyhub.repository.UserRepository;
+import com.campusstudyhub.security.AuthenticatedUser;
+import com.campusstudyhub.security.TenantContext;
+import com.campusstudyhub.service.LoggingNotificationService;
+import com.campusstudyhub.service.NotificationService;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TracingAspectTest {
+
+    private final List<Observation.Context> stopped = new ArrayList<>();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private NotificationService notifications;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new LoggingNotificationService(userRepository));
+        factory.addAspect(new TracingAspect(registry));
+        notifications = factory.getProxy();
+
+        TenantContext.setCurrentTenant("campus-a");
+        AuthenticatedUser user = new AuthenticatedUser(7L, "student@campus.com", "Test Student", "ROLE_STUDENT",
+                "campus-a", "hash");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void spanIsNamedAfterTheMethodAndTaggedWithLayerTenantAndUser() {
+        notifications.sendNotification("Booking approved", "student@campus.com");
+
+        assertEquals(1, stopped.size());
+        Observation.Context span = stopped.get(0);
+        assertEquals(TracingAspect.OBSERVATION_NAME, span.getName());
+        assertEquals("LoggingNotificationService.sendNotification", span.getContextualName());
+        assertEquals(KeyValue.of("layer", "notification"), span.getLowCardinalityKeyValue("layer"));
+        assertEquals("campus-a", span.getHighCardinalityKeyValue("tenant.id").getValue());
+        assertEquals("7", span.getHighCardinalityKeyValue("user.id").getValue());
+    }
+
+    @Test
+    void failuresAreRecordedOnTheSpan() {
+        when(userRepository.findById(anyLong())).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> notifications.sendToUser(7L, "Reminder", "Due tomorrow"));
+
+        assertEquals(1, stopped.size());
+        assertInstanceOf(IllegalStateException.class, stopped.get(0).getError());
+    }
+}
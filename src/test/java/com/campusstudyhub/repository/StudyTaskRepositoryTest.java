@@ -0,0 +1,66 @@
+package com.campusstudyhub.repository;
+
+import com.campusstudyhub.entity.StudyTask;
+import com.campusstudyhub.security.TenantIdentifierResolver;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(TenantIdentifierResolver.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb_tasks;MODE=PostgreSQL;INIT=CREATE TYPE IF NOT EXISTS JSONB AS TEXT",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=password",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class StudyTaskRepositoryTest {
+
+    @Autowired
+    private StudyTaskRepository taskRepository;
+
+    private StudyTask task(Long userId, String status, String priority, LocalDateTime dueDate) {
+        StudyTask task = new StudyTask(userId, "Task", null, dueDate, priority);
+        task.setStatus(status);
+        return taskRepository.save(task);
+    }
+
+    @Test
+    void summarizesStatusPriorityOverdueAndNextDueInOneQuery() {
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+        task(1L, "TODO", "HIGH", now.minusDays(1));
+        task(1L, "TODO", "HIGH", now.plusDays(3));
+        task(1L, "IN_PROGRESS", "LOW", now.plusDays(1));
+        task(1L, "DONE", "HIGH", now.minusDays(5));
+        task(2L, "TODO", "HIGH", now.plusHours(1));
+
+        Map<String, TaskStatusCount> rows = taskRepository.summarizeByUserId(1L, now).stream()
+                .collect(Collectors.toMap(row -> row.status() + "/" + row.priority(), Function.identity()));
+
+        assertEquals(3, rows.size());
+        assertEquals(2, rows.get("TODO/HIGH").total());
+        assertEquals(1, rows.get("TODO/HIGH").overdue());
+        assertEquals(now.plusDays(3), rows.get("TODO/HIGH").nextDue());
+        assertEquals(now.plusDays(1), rows.get("IN_PROGRESS/LOW").nextDue());
+        assertEquals(0, rows.get("DONE/HIGH").overdue());
+        assertNull(rows.get("DONE/HIGH").nextDue());
+
+        assertTrue(taskRepository.findFirstByUserIdAndStatusInAndDueDateOrderByIdAsc(1L,
+                List.of("TODO", "IN_PROGRESS"), now.plusDays(1)).isPresent());
+    }
+}
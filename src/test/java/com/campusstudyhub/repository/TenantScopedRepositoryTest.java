@@ -0,0 +1,96 @@
+package com.campusstudyhub.repository;
+
+import com.campusstudyhub.entity.Room;
+import com.campusstudyhub.entity.Semester;
+import com.campusstudyhub.entity.User;
+import com.campusstudyhub.security.TenantContext;
+import com.campusstudyhub.security.TenantIdentifierResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hibernate opens each session for the tenant in {@link TenantContext}, so
+ * these tests run without a surrounding transaction to switch tenants
+ * between repository calls.
+ */
+@DataJpaTest
+@Import(TenantIdentifierResolver.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb_tenancy;MODE=PostgreSQL;INIT=CREATE TYPE IF NOT EXISTS JSONB AS TEXT",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=password",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TenantScopedRepositoryTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private SemesterRepository semesterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void cleanUp() {
+        for (String tenant : List.of("campus-a", "campus-b")) {
+            TenantContext.setCurrentTenant(tenant);
+            roomRepository.deleteAll();
+            semesterRepository.deleteAll();
+            userRepository.deleteAll();
+        }
+        TenantContext.clear();
+    }
+
+    @Test
+    void rowsAreStampedWithAndFilteredByCurrentTenant() {
+        TenantContext.setCurrentTenant("campus-a");
+        Room roomA = roomRepository.save(new Room("Room 101", 30, "Main Block", "1", "101"));
+
+        TenantContext.setCurrentTenant("campus-b");
+        Room roomB = roomRepository.save(new Room("Room 101", 20, "Annex", "G", "101"));
+
+        assertEquals(1, roomRepository.count());
+        assertEquals("campus-b", roomRepository.findByName("Room 101").orElseThrow().getTenantId());
+        assertTrue(roomRepository.findById(roomA.getId()).isEmpty());
+
+        TenantContext.setCurrentTenant("campus-a");
+        List<Room> rooms = roomRepository.findAll();
+        assertEquals(1, rooms.size());
+        assertEquals(roomA.getId(), rooms.get(0).getId());
+        assertTrue(roomRepository.findById(roomB.getId()).isEmpty());
+    }
+
+    @Test
+    void emailsAndSemesterNumbersAreUniquePerTenant() {
+        TenantContext.setCurrentTenant("campus-a");
+        userRepository.save(new User("Student A", "student@campus.com", "{noop}a", "ROLE_STUDENT"));
+        Semester semesterA = semesterRepository.save(new Semester(1));
+
+        TenantContext.setCurrentTenant("campus-b");
+        assertFalse(userRepository.existsByEmail("student@campus.com"));
+        userRepository.save(new User("Student B", "student@campus.com", "{noop}b", "ROLE_STUDENT"));
+        semesterRepository.save(new Semester(1));
+
+        assertEquals("Student B", userRepository.findByEmail("student@campus.com").orElseThrow().getFullName());
+        assertEquals(1, semesterRepository.count());
+        assertTrue(semesterRepository.findById(semesterA.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.campusstudyhub.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb_ratelimit;MODE=PostgreSQL;INIT=CREATE TYPE IF NOT EXISTS JSONB AS TEXT",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=password",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.ratelimit.rules[0].name=api-admin",
+        "app.ratelimit.rules[0].paths=/api/",
+        "app.ratelimit.rules[0].roles=ROLE_ADMIN",
+        "app.ratelimit.rules[0].capacity=1",
+        "app.ratelimit.rules[1].name=api",
+        "app.ratelimit.rules[1].paths=/api/",
+        "app.ratelimit.rules[1].capacity=100"
+})
+class ApiRateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RateLimitingFilter rateLimitingFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitingFilter.reset();
+    }
+
+    @Test
+    void bearerAuthenticatedAdminHitsTheRoleRule() throws Exception {
+        String token = accessToken(1L, "admin@campus.com", "ROLE_ADMIN");
+        double throttledBefore = throttled("api-admin");
+
+        assertNotEquals(429, status(token));
+        assertEquals(429, status(token));
+        assertEquals(throttledBefore + 1, throttled("api-admin"));
+    }
+
+    @Test
+    void otherUsersFallThroughToTheGeneralApiRule() throws Exception {
+        String token = accessToken(2L, "student@campus.com", "ROLE_STUDENT");
+
+        assertNotEquals(429, status(token));
+        assertNotEquals(429, status(token));
+    }
+
+    private String accessToken(Long id, String email, String role) {
+        AuthenticatedUser user = new AuthenticatedUser(id, email, "Test User", role,
+                TenantContext.DEFAULT_TENANT, null);
+        return tokenService.issue(user).getAccessToken();
+    }
+
+    private int status(String token) throws Exception {
+        return mockMvc.perform(get("/api/v1/tasks").header("Authorization", "Bearer " + token))
+                .andReturn().getResponse().getStatus();
+    }
+
+    private double throttled(String rule) {
+        var counter = meterRegistry.find("ratelimit.requests")
+                .tags("rule", rule, "outcome", "throttled").counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
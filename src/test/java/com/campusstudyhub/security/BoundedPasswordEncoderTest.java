@@ -0,0 +1,98 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void legacyBcryptHashesMatchAndAreUpgradedToConfiguredAlgorithm() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setAlgorithm("pbkdf2");
+        properties.setPbkdf2Iterations(1000);
+        PasswordEncoder encoder = PasswordEncoders.create(properties);
+
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        assertTrue(encoder.matches("secret", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+
+        String upgraded = encoder.encode("secret");
+        assertTrue(upgraded.startsWith("{pbkdf2}"));
+        assertTrue(encoder.matches("secret", upgraded));
+        assertFalse(encoder.upgradeEncoding(upgraded));
+    }
+
+    @Test
+    void raisedBcryptCostTriggersUpgrade() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setBcryptStrength(5);
+        PasswordEncoder encoder = PasswordEncoders.create(properties);
+
+        assertTrue(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+    }
+
+    @Test
+    void saturatedPoolFailsFastAndIsMeasured() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5), registry);
+
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            waitForQueueDepth(registry, 1);
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("c"));
+            assertFalse(encoder.upgradeEncoding("anything"), "no upgrades while hashes are queued");
+            assertEquals(1.0, registry.get("password.hash.rejected").counter().count());
+
+            release.countDown();
+            assertEquals("hash:a", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash:b", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(2, registry.get("password.hash").tag("operation", "encode").timer().count());
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    private static void waitForQueueDepth(SimpleMeterRegistry registry, double depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.get("password.hash.queue.depth").gauge().value() < depth) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Queue never reached depth " + depth);
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.entity.User;
+import com.campusstudyhub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampusUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    private User student() {
+        User user = new User("Test Student", "student@campus.com", "{bcrypt}hash", "ROLE_STUDENT");
+        user.setId(7L);
+        user.setTenantId("default");
+        return user;
+    }
+
+    @Test
+    void loadsPrincipalWithIdRoleAndTenant() {
+        when(userRepository.findByEmail("student@campus.com")).thenReturn(Optional.of(student()));
+        CampusUserDetailsService service = new CampusUserDetailsService(userRepository, Duration.ofMinutes(1), 100);
+
+        AuthenticatedUser user = (AuthenticatedUser) service.loadUserByUsername("student@campus.com");
+
+        assertEquals(7L, user.getId());
+        assertEquals("Test Student", user.getFullName());
+        assertEquals("default", user.getTenantId());
+        assertFalse(user.isAdmin());
+    }
+
+    @Test
+    void repeatedLookupsHitTheCacheAndSurviveCredentialErasure() {
+        when(userRepository.findByEmail("student@campus.com")).thenReturn(Optional.of(student()));
+        CampusUserDetailsService service = new CampusUserDetailsService(userRepository, Duration.ofMinutes(1), 100);
+
+        AuthenticatedUser first = (AuthenticatedUser) service.loadUserByUsername("student@campus.com");
+        first.eraseCredentials();
+        AuthenticatedUser second = (AuthenticatedUser) service.loadUserByUsername("student@campus.com");
+
+        assertEquals("{bcrypt}hash", second.getPassword());
+        verify(userRepository, times(1)).findByEmail("student@campus.com");
+    }
+
+    @Test
+    void cacheIsKeyedByTenantAndCanBeEvicted() {
+        when(userRepository.findByEmail("student@campus.com")).thenReturn(Optional.of(student()));
+        CampusUserDetailsService service = new CampusUserDetailsService(userRepository, Duration.ofMinutes(1), 100);
+
+        service.loadUserByUsername("student@campus.com");
+        TenantContext.setCurrentTenant("campus-a");
+        service.loadUserByUsername("student@campus.com");
+        service.evict("student@campus.com");
+        service.loadUserByUsername("student@campus.com");
+
+        verify(userRepository, times(3)).findByEmail("student@campus.com");
+    }
+
+    @Test
+    void unknownUsersAreNotCached() {
+        when(userRepository.findByEmail("nobody@campus.com")).thenReturn(Optional.empty());
+        CampusUserDetailsService service = new CampusUserDetailsService(userRepository, Duration.ofMinutes(1), 100);
+
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody@campus.com"));
+        assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nobody@campus.com"));
+
+        verify(userRepository, times(2)).findByEmail("nobody@campus.com");
+    }
+}
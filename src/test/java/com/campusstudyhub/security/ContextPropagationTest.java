@@ -0,0 +1,100 @@
+package com.campusstudyhub.security;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextPropagationTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void tenantUserAndRequestIdReachTheWorkerAndAreClearedAfterwards() throws Exception {
+        Authentication auth = new TestingAuthenticationToken("student@campus.com", null, "ROLE_STUDENT");
+        TenantContext.setCurrentTenant("campus-a");
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        MDC.put(RequestContextSnapshot.REQUEST_ID_KEY, "req-1");
+
+        String seen = ContextPropagation.supplyAsync(() -> TenantContext.getCurrentTenant() + "|"
+                + SecurityContextHolder.getContext().getAuthentication().getName() + "|"
+                + MDC.get(RequestContextSnapshot.REQUEST_ID_KEY), executor).get(5, TimeUnit.SECONDS);
+        assertEquals("campus-a|student@campus.com|req-1", seen);
+
+        String leftOver = executor.submit(() -> TenantContext.getCurrentTenant() + "|"
+                + SecurityContextHolder.getContext().getAuthentication() + "|"
+                + MDC.get(RequestContextSnapshot.REQUEST_ID_KEY)).get(5, TimeUnit.SECONDS);
+        assertEquals("null|null|null", leftOver);
+    }
+
+    @Test
+    void currentObservationIsScopedOnTheWorker() throws Exception {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        TenantContext.setCurrentTenant("campus-a");
+        Observation request = Observation.start("http.server.requests", registry);
+
+        try (Observation.Scope scope = request.openScope()) {
+            Observation seen = ContextPropagation.supplyAsync(registry::getCurrentObservation, executor)
+                    .get(5, TimeUnit.SECONDS);
+            assertSame(request, seen);
+        } finally {
+            request.stop();
+        }
+
+        assertNull(executor.submit(registry::getCurrentObservation).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void decoratedExecutorCarriesContextPerTask() throws Exception {
+        var decorated = ContextPropagation.wrap(executor);
+
+        TenantContext.setCurrentTenant("campus-a");
+        assertEquals("campus-a", decorated.submit(TenantContext::getCurrentTenant).get(5, TimeUnit.SECONDS));
+
+        TenantContext.setCurrentTenant("campus-b");
+        assertEquals("campus-b", decorated.submit(TenantContext::getCurrentTenant).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void callerThreadStateIsRestoredWhenTaskRunsInline() {
+        TenantContext.setCurrentTenant("campus-a");
+        Runnable task = RequestContextSnapshot.capture().wrap(() -> TenantContext.setCurrentTenant("campus-b"));
+
+        task.run();
+
+        assertEquals("campus-a", TenantContext.getCurrentTenant());
+    }
+
+    @Test
+    void nothingToPropagateLeavesTaskUnwrapped() {
+        Runnable task = () -> { };
+
+        assertTrue(RequestContextSnapshot.capture().isEmpty());
+        assertSame(task, ContextPropagation.taskDecorator().decorate(task));
+    }
+}
@@ -0,0 +1,110 @@
+package com.campusstudyhub.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DistributedRateLimiter using an in-memory store that stands
+ * in for the shared database.
+ */
+class DistributedRateLimiterTest {
+
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    private final InMemoryStore store = new InMemoryStore();
+
+    private DistributedRateLimiter newNode(RateLimitStore backend) {
+        return new DistributedRateLimiter(backend, 5, Duration.ofSeconds(30), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void limitIsSharedAcrossNodes() {
+        DistributedRateLimiter nodeA = newNode(store);
+        DistributedRateLimiter nodeB = newNode(store);
+
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (nodeA.tryConsume("10.0.0.1:auth", 10, PERIOD, () -> true)) {
+                allowed++;
+            }
+            if (nodeB.tryConsume("10.0.0.1:auth", 10, PERIOD, () -> true)) {
+                allowed++;
+            }
+        }
+
+        assertEquals(10, allowed);
+    }
+
+    @Test
+    void mostRequestsAreServedFromLocalLease() {
+        DistributedRateLimiter node = newNode(store);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(node.tryConsume("10.0.0.1:api", 100, PERIOD, () -> false));
+        }
+
+        assertEquals(2, store.calls.get());
+    }
+
+    @Test
+    void fallsBackToLocalLimitsWhenStoreIsDown() {
+        AtomicInteger storeCalls = new AtomicInteger();
+        DistributedRateLimiter node = newNode((key, capacity, period, requested, returned) -> {
+            storeCalls.incrementAndGet();
+            throw new IllegalStateException("connection refused");
+        });
+        AtomicInteger fallbackCalls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(node.tryConsume("10.0.0.1:general", 200, PERIOD, () -> {
+                fallbackCalls.incrementAndGet();
+                return true;
+            }));
+        }
+
+        assertEquals(3, fallbackCalls.get());
+        assertEquals(1, storeCalls.get(), "Store should not be retried until retry-after passes");
+    }
+
+    @Test
+    void sparseTrafficDoesNotBurnExpiredLeases() throws InterruptedException {
+        DistributedRateLimiter node = new DistributedRateLimiter(store, 5, Duration.ofMillis(1),
+                Duration.ofSeconds(30));
+
+        int allowed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (node.tryConsume("10.0.0.1:auth", 10, PERIOD, () -> true)) {
+                allowed++;
+            }
+            // Let the lease expire before the next request
+            Thread.sleep(5);
+        }
+
+        assertEquals(10, allowed);
+    }
+
+    /**
+     * Shared bucket without refill, enough for tests shorter than a period.
+     */
+    private static class InMemoryStore implements RateLimitStore {
+
+        private final Map<String, Long> remaining = new ConcurrentHashMap<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public synchronized long reserve(String key, long capacity, Duration refillPeriod, long requested,
+                long returned) {
+            calls.incrementAndGet();
+            long available = Math.min(capacity, remaining.getOrDefault(key, capacity) + returned);
+            long granted = Math.min(requested, available);
+            remaining.put(key, available - granted);
+            return granted;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.entity.RateLimitBucket;
+import com.campusstudyhub.repository.RateLimitBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The shared bucket store against H2. Each reservation commits in its own
+ * transaction, so these tests run without a surrounding one.
+ */
+@DataJpaTest
+@Import({ JpaRateLimitStore.class, TenantIdentifierResolver.class })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb_ratelimit_store;MODE=PostgreSQL;LOCK_TIMEOUT=10000;INIT=CREATE TYPE IF NOT EXISTS JSONB AS TEXT",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=password",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.ratelimit.distributed.enabled=true"
+})
+class JpaRateLimitStoreTest {
+
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Autowired
+    private JpaRateLimitStore store;
+
+    @Autowired
+    private RateLimitBucketRepository bucketRepository;
+
+    @BeforeEach
+    void setUp() {
+        bucketRepository.deleteAll();
+    }
+
+    @Test
+    void createsFullBucketAndTakesTokensUntilEmpty() {
+        assertEquals(3, store.reserve("10.0.0.1:api", 5, HOUR, 3, 0));
+        assertEquals(2, store.reserve("10.0.0.1:api", 5, HOUR, 3, 0));
+        assertEquals(0, store.reserve("10.0.0.1:api", 5, HOUR, 3, 0));
+
+        assertEquals(0, bucketRepository.findById("10.0.0.1:api").orElseThrow().getTokens());
+    }
+
+    @Test
+    void refillsTokensEarnedSinceTheLastRefill() {
+        store.reserve("10.0.0.1:auth", 10, HOUR, 10, 0);
+
+        // Pretend the bucket was drained half a period ago
+        RateLimitBucket bucket = bucketRepository.findById("10.0.0.1:auth").orElseThrow();
+        bucket.setRefilledAt(System.currentTimeMillis() - HOUR.toMillis() / 2);
+        bucketRepository.save(bucket);
+
+        assertEquals(5, store.reserve("10.0.0.1:auth", 10, HOUR, 10, 0));
+    }
+
+    @Test
+    void unusedLeaseTokensGoBackUpToCapacity() {
+        store.reserve("10.0.0.1:api", 5, HOUR, 5, 0);
+
+        assertEquals(3, store.reserve("10.0.0.1:api", 5, HOUR, 5, 3));
+        assertEquals(5, store.reserve("10.0.0.1:api", 5, HOUR, 5, 9));
+    }
+
+    @Test
+    void refillKeepsTheFractionalRemainder() {
+        RateLimitBucket bucket = new RateLimitBucket("key", 0, 0);
+
+        // 10 tokens per 1000 ms: 250 ms earns 2 tokens, 200 ms of them used
+        JpaRateLimitStore.refill(bucket, 10, 1000, 250);
+        assertEquals(2, bucket.getTokens());
+        assertEquals(200, bucket.getRefilledAt());
+
+        // The leftover 50 ms count towards the next token
+        JpaRateLimitStore.refill(bucket, 10, 1000, 300);
+        assertEquals(3, bucket.getTokens());
+        assertEquals(300, bucket.getRefilledAt());
+
+        // A full bucket restarts the clock
+        JpaRateLimitStore.refill(bucket, 10, 1000, 5000);
+        assertEquals(10, bucket.getTokens());
+        assertEquals(5000, bucket.getRefilledAt());
+    }
+
+    @Test
+    void nodesRacingToCreateABucketShareOneBudget() throws Exception {
+        int nodes = 4;
+        int requestsPerNode = 5;
+        AtomicInteger fallbacks = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(nodes);
+        try {
+            // Several keys so the first-insert race is very likely to happen at least once
+            for (int round = 0; round < 10; round++) {
+                String key = "10.0.0." + round + ":auth";
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int n = 0; n < nodes; n++) {
+                    DistributedRateLimiter node = new DistributedRateLimiter(store, 1, Duration.ofSeconds(30),
+                            Duration.ofSeconds(30));
+                    results.add(pool.submit(() -> {
+                        start.await();
+                        int allowed = 0;
+                        for (int i = 0; i < requestsPerNode; i++) {
+                            if (node.tryConsume(key, 8, HOUR, () -> {
+                                fallbacks.incrementAndGet();
+                                return true;
+                            })) {
+                                allowed++;
+                            }
+                        }
+                        return allowed;
+                    }));
+                }
+                start.countDown();
+
+                int allowed = 0;
+                for (Future<Integer> result : results) {
+                    allowed += result.get();
+                }
+                assertEquals(8, allowed, "round " + round);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(0, fallbacks.get(), "A lost insert race should be retried, not treated as an outage");
+    }
+}
@@ -0,0 +1,99 @@
+package com.campusstudyhub.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for rule matching and forwarded-header handling.
+ */
+class RateLimitPolicyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        List<RateLimitProperties.Rule> rules = new ArrayList<>(new RateLimitProperties().getRules());
+
+        RateLimitProperties.Rule adminApi = new RateLimitProperties.Rule("api-admin", 0, "/api/");
+        adminApi.setRoles(List.of("ROLE_ADMIN"));
+        rules.add(0, adminApi);
+
+        RateLimitProperties.Rule bookingWrites = new RateLimitProperties.Rule("booking-writes", 20,
+                "/api/v1/bookings");
+        bookingWrites.setMethods(List.of("post"));
+        rules.add(bookingWrites);
+
+        RateLimitProperties.Rule bigCampus = new RateLimitProperties.Rule("general-campus-a", 1000, "/");
+        bigCampus.setTenants(List.of("campus-a"));
+        rules.add(0, bigCampus);
+
+        policy = new RateLimitPolicy(rules, meterRegistry);
+    }
+
+    @Test
+    void defaultRulesMatchByLongestPrefix() {
+        assertEquals("auth", policy.resolve("/login", "POST", null, "default").getName());
+        assertEquals("auth", policy.resolve("/register", "GET", null, "default").getName());
+        assertEquals("api", policy.resolve("/api/v1/tasks", "GET", null, "default").getName());
+        assertEquals("general", policy.resolve("/dashboard", "GET", null, "default").getName());
+        assertEquals("general", policy.resolve("/logout", "POST", null, "default").getName());
+    }
+
+    @Test
+    void methodRoleAndTenantConditionsNarrowTheMatch() {
+        assertEquals("booking-writes", policy.resolve("/api/v1/bookings", "POST", null, "default").getName());
+        assertEquals("api", policy.resolve("/api/v1/bookings", "GET", null, "default").getName());
+
+        RateLimitPolicy.Limit admin = policy.resolve("/api/v1/tasks", "GET",
+                new TestingAuthenticationToken("admin", null, "ROLE_ADMIN"), "default");
+        assertEquals("api-admin", admin.getName());
+        assertTrue(admin.isUnlimited());
+
+        assertEquals("general-campus-a", policy.resolve("/dashboard", "GET", null, "campus-a").getName());
+    }
+
+    @Test
+    void recordsAllowedAndThrottledPerRule() {
+        RateLimitPolicy.Limit auth = policy.resolve("/login", "POST", null, "default");
+        auth.record(true);
+        auth.record(false);
+        auth.record(false);
+
+        assertEquals(1.0, meterRegistry.get("ratelimit.requests")
+                .tag("rule", "auth").tag("outcome", "allowed").counter().count());
+        assertEquals(2.0, meterRegistry.get("ratelimit.requests")
+                .tag("rule", "auth").tag("outcome", "throttled").counter().count());
+    }
+
+    @Test
+    void forwardedForIsIgnoredFromUntrustedPeers() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+
+    @Test
+    void forwardedForSkipsTrustedHopsAndSpoofedEntries() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.2");
+        // Client forged the first entry; our proxies appended the real address and their own
+        request.addHeader("X-Forwarded-For", "1.2.3.4, 203.0.113.7, 10.0.0.1");
+
+        assertEquals("203.0.113.7", resolver.resolve(request));
+    }
+}
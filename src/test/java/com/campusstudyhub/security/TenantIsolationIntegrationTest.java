@@ -7,6 +7,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -17,7 +18,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         "spring.datasource.driverClassName=org.h2.Driver",
         "spring.datasource.username=sa",
         "spring.datasource.password=password",
-        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
 })
 public class TenantIsolationIntegrationTest {
 
@@ -39,4 +42,18 @@ public class TenantIsolationIntegrationTest {
         mockMvc.perform(get("/login"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    public void sessionUserCannotSwitchTenantsWithTheHeader() throws Exception {
+        AuthenticatedUser student = new AuthenticatedUser(7L, "student@campus.com", "Test Student",
+                "ROLE_STUDENT", "campus-a", null);
+
+        mockMvc.perform(get("/login").with(user(student))
+                .header("X-Tenant-ID", "campus-b"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/login").with(user(student))
+                .header("X-Tenant-ID", "campus-a"))
+                .andExpect(status().isOk());
+    }
 }
@@ -0,0 +1,107 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.dto.TokenResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final String KEY_1 = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String KEY_2 = Base64.getEncoder().encodeToString("second-signing-key-of-32-bytes!!".getBytes());
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private final AuthenticatedUser student = new AuthenticatedUser(7L, "student@campus.com", "Test Student",
+            "ROLE_STUDENT", "default", "hash");
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    private TokenService service(String activeKeyId, String... keyIdsAndSecrets) {
+        TokenProperties properties = new TokenProperties();
+        Map<String, String> keys = new LinkedHashMap<>();
+        for (int i = 0; i < keyIdsAndSecrets.length; i += 2) {
+            keys.put(keyIdsAndSecrets[i], keyIdsAndSecrets[i + 1]);
+        }
+        properties.setKeys(keys);
+        properties.setActiveKeyId(activeKeyId);
+        return new TokenService(properties, userDetailsService);
+    }
+
+    @Test
+    void accessTokenBuildsPrincipalWithoutLookup() {
+        TokenService tokens = service("k1", "k1", KEY_1);
+
+        TokenResponse issued = tokens.issue(student);
+        Jwt jwt = tokens.getDecoder().decode(issued.getAccessToken());
+        AbstractAuthenticationToken auth = tokens.toAuthentication(jwt);
+
+        AuthenticatedUser principal = (AuthenticatedUser) auth.getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("student@campus.com", principal.getEmail());
+        assertEquals("ROLE_STUDENT", principal.getRole());
+        assertNull(principal.getPassword());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void tokensSignedWithPreviousKeyStillVerifyAfterRotation() {
+        String oldToken = service("k1", "k1", KEY_1).issue(student).getAccessToken();
+
+        TokenService rotated = service("k2", "k1", KEY_1, "k2", KEY_2);
+        assertEquals("student@campus.com", rotated.getDecoder().decode(oldToken).getSubject());
+
+        TokenService withoutOldKey = service("k2", "k2", KEY_2);
+        assertThrows(JwtException.class, () -> withoutOldKey.getDecoder().decode(oldToken));
+    }
+
+    @Test
+    void refreshTokenIsNotAcceptedAsAccessToken() {
+        TokenService tokens = service("k1", "k1", KEY_1);
+        Jwt refresh = tokens.getDecoder().decode(tokens.issue(student).getRefreshToken());
+
+        assertThrows(InvalidBearerTokenException.class, () -> tokens.toAuthentication(refresh));
+    }
+
+    @Test
+    void accessTokenIsRejectedForAnotherTenant() {
+        TokenService tokens = service("k1", "k1", KEY_1);
+        Jwt jwt = tokens.getDecoder().decode(tokens.issue(student).getAccessToken());
+
+        TenantContext.setCurrentTenant("campus-a");
+        assertThrows(InvalidBearerTokenException.class, () -> tokens.toAuthentication(jwt));
+    }
+
+    @Test
+    void refreshReloadsUserAndRejectsAccessTokens() {
+        TokenService tokens = service("k1", "k1", KEY_1);
+        TokenResponse issued = tokens.issue(student);
+        when(userDetailsService.loadUserByUsername("student@campus.com")).thenReturn(student.copy());
+
+        TokenResponse refreshed = tokens.refresh(issued.getRefreshToken());
+
+        assertNotNull(refreshed.getAccessToken());
+        verify(userDetailsService).loadUserByUsername("student@campus.com");
+        assertThrows(BadCredentialsException.class, () -> tokens.refresh(issued.getAccessToken()));
+    }
+}
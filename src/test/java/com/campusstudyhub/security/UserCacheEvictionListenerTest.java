@@ -0,0 +1,56 @@
+package com.campusstudyhub.security;
+
+import com.campusstudyhub.entity.User;
+import com.campusstudyhub.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb_user_cache;MODE=PostgreSQL;INIT=CREATE TYPE IF NOT EXISTS JSONB AS TEXT",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=password",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.security.user-cache.ttl=1h"
+})
+class UserCacheEvictionListenerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CampusUserDetailsService userDetailsService;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.findByEmail("promoted@campus.com").ifPresent(userRepository::delete);
+        userDetailsService.clear();
+    }
+
+    @Test
+    void roleAndPasswordChangesReachTheNextLogin() {
+        userRepository.save(new User("Promoted User", "promoted@campus.com", "{noop}old", "ROLE_STUDENT"));
+        assertEquals("ROLE_STUDENT", load().getRole());
+
+        User user = userRepository.findByEmail("promoted@campus.com").orElseThrow();
+        user.setRole("ROLE_ADMIN");
+        user.setPassword("{noop}new");
+        userRepository.save(user);
+
+        AuthenticatedUser reloaded = load();
+        assertEquals("ROLE_ADMIN", reloaded.getRole());
+        assertEquals("{noop}new", reloaded.getPassword());
+    }
+
+    private AuthenticatedUser load() {
+        return (AuthenticatedUser) userDetailsService.loadUserByUsername("promoted@campus.com");
+    }
+}
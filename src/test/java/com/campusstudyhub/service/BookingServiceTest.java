@@ -8,12 +8,14 @@ import com.campusstudyhub.entity.User;
 import com.campusstudyhub.repository.BookingRepository;
 import com.campusstudyhub.repository.RoomRepository;
 import com.campusstudyhub.repository.UserRepository;
+import com.campusstudyhub.security.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -39,12 +41,17 @@ class BookingServiceTest {
     private UserRepository userRepository;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private AnalyticsService analyticsService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BookingService bookingService;
 
     private User testUser;
     private User adminUser;
+    private AuthenticatedUser student;
     private Room testRoom;
 
     @BeforeEach
@@ -55,6 +62,8 @@ class BookingServiceTest {
         adminUser = new User("Admin", "admin@campus.com", "password", "ROLE_ADMIN");
         adminUser.setId(2L);
 
+        student = AuthenticatedUser.from(testUser);
+
         testRoom = new Room("Room 101", 30, "Main Block", "1", "101");
         testRoom.setId(1L);
     }
@@ -67,7 +76,6 @@ class BookingServiceTest {
                 LocalDateTime.of(2026, 3, 1, 12, 0),
                 "Study session");
 
-        when(userRepository.findByEmail("student@campus.com")).thenReturn(Optional.of(testUser));
         when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
         when(bookingRepository.findOverlappingApprovedBookings(eq(1L), any(), any()))
                 .thenReturn(Collections.emptyList());
@@ -78,12 +86,13 @@ class BookingServiceTest {
             return b;
         });
 
-        BookingResponse response = bookingService.requestBooking(request, "student@campus.com");
+        BookingResponse response = bookingService.requestBooking(request, student);
 
         assertNotNull(response);
         assertEquals("PENDING", response.getStatus());
         assertEquals("Room 101", response.getRoomName());
         verify(bookingRepository).save(any(Booking.class));
+        verify(userRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -97,13 +106,12 @@ class BookingServiceTest {
         Booking existingBooking = new Booking();
         existingBooking.setId(50L);
 
-        when(userRepository.findByEmail("student@campus.com")).thenReturn(Optional.of(testUser));
         when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
         when(bookingRepository.findOverlappingApprovedBookings(eq(1L), any(), any()))
                 .thenReturn(List.of(existingBooking));
 
         assertThrows(IllegalStateException.class,
-                () -> bookingService.requestBooking(request, "student@campus.com"));
+                () -> bookingService.requestBooking(request, student));
     }
 
     @Test
@@ -115,7 +123,7 @@ class BookingServiceTest {
                 "Study session");
 
         assertThrows(IllegalArgumentException.class,
-                () -> bookingService.requestBooking(request, "student@campus.com"));
+                () -> bookingService.requestBooking(request, student));
     }
 
     @Test
@@ -126,10 +134,9 @@ class BookingServiceTest {
                 LocalDateTime.of(2026, 3, 1, 15, 0), // 7 hours
                 "Study session");
 
-        when(userRepository.findByEmail("student@campus.com")).thenReturn(Optional.of(testUser));
 
         assertThrows(IllegalArgumentException.class,
-                () -> bookingService.requestBooking(request, "student@campus.com"));
+                () -> bookingService.requestBooking(request, student));
     }
 
     @Test
@@ -196,13 +203,13 @@ class BookingServiceTest {
         booking.setCreatedAt(LocalDateTime.now());
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(userRepository.findByEmail("student@campus.com")).thenReturn(Optional.of(testUser));
         when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> i.getArgument(0));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
-        BookingResponse response = bookingService.cancelBooking(1L, "student@campus.com");
+        BookingResponse response = bookingService.cancelBooking(1L, student);
 
         assertEquals("CANCELLED", response.getStatus());
+        assertEquals("Test Student", response.getUserName());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
@@ -217,9 +224,8 @@ class BookingServiceTest {
         booking.setStatus("PENDING");
 
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(booking));
-        when(userRepository.findByEmail("other@campus.com")).thenReturn(Optional.of(otherUser));
 
         assertThrows(IllegalStateException.class,
-                () -> bookingService.cancelBooking(1L, "other@campus.com"));
+                () -> bookingService.cancelBooking(1L, AuthenticatedUser.from(otherUser)));
     }
 }
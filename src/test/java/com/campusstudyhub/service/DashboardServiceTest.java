@@ -0,0 +1,79 @@
+package com.campusstudyhub.service;
+
+import com.campusstudyhub.entity.StudyTask;
+import com.campusstudyhub.security.AuthenticatedUser;
+import com.campusstudyhub.security.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private SubjectService subjectService;
+    @Mock
+    private BookingService bookingService;
+    @Mock
+    private StudyTaskService taskService;
+
+    private final AuthenticatedUser student = new AuthenticatedUser(7L, "student@campus.com", "Test Student",
+            "ROLE_STUDENT", "default", "hash");
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(subjectService, bookingService, taskService, Runnable::run,
+                Duration.ofMinutes(1), 100);
+        when(subjectService.getAllSemesters()).thenReturn(List.of());
+        when(bookingService.countByUser(student)).thenReturn(3L);
+        when(taskService.countPendingTasks(student)).thenReturn(2L);
+        when(taskService.listActiveTasks(student)).thenReturn(List.of(new StudyTask()));
+    }
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void countsWithoutLoadingBookings() {
+        DashboardService.Dashboard dashboard = dashboardService.getDashboard(student);
+
+        assertEquals(3, dashboard.bookingCount());
+        assertEquals(2, dashboard.pendingTaskCount());
+        assertEquals(1, dashboard.activeTasks().size());
+        verify(bookingService, never()).listByUser(any());
+    }
+
+    @Test
+    void summaryIsCachedUntilUserChangesSomething() {
+        dashboardService.getDashboard(student);
+        dashboardService.getDashboard(student);
+        verify(bookingService, times(1)).countByUser(student);
+
+        dashboardService.onDashboardChanged(new DashboardChangedEvent(student.getId()));
+        dashboardService.getDashboard(student);
+        verify(bookingService, times(2)).countByUser(student);
+        verify(subjectService, times(3)).getAllSemesters();
+    }
+
+    @Test
+    void otherTenantsChangesDoNotEvict() {
+        dashboardService.getDashboard(student);
+
+        dashboardService.onDashboardChanged(new DashboardChangedEvent("north-campus", student.getId()));
+        dashboardService.getDashboard(student);
+
+        verify(bookingService, times(1)).countByUser(student);
+    }
+}
@@ -0,0 +1,63 @@
+package com.campusstudyhub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Zipf rank sampling.
+ */
+class ZipfDistributionTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void ranksFollowTheZipfWeights() {
+        ZipfDistribution zipf = new ZipfDistribution(50, 1.1);
+        int[] counts = draw(zipf);
+
+        double total = 0;
+        for (int k = 1; k <= 50; k++) {
+            total += 1 / Math.pow(k, 1.1);
+        }
+        assertEquals(1 / total, counts[0] / (double) DRAWS, 0.01);
+        assertEquals(1 / Math.pow(2, 1.1) / total, counts[1] / (double) DRAWS, 0.01);
+        assertTrue(counts[0] > counts[9] * 10, "rank 0 should be drawn far more often than rank 9");
+    }
+
+    @Test
+    void zeroExponentIsUniform() {
+        int[] counts = draw(new ZipfDistribution(10, 0));
+
+        for (int count : counts) {
+            assertEquals(0.1, count / (double) DRAWS, 0.01);
+        }
+    }
+
+    @Test
+    void singleItemIsAlwaysDrawn() {
+        ZipfDistribution zipf = new ZipfDistribution(1, 2.0);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, zipf.sample(random));
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(10, -0.5));
+    }
+
+    private static int[] draw(ZipfDistribution zipf) {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[zipf.size()];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[zipf.sample(random)]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,17 @@
+-- PostgreSQL creates a <table>_id_seq sequence for every BIGSERIAL column;
+-- H2 does not, so create them up front for V13 and the entity mappings.
+CREATE SEQUENCE IF NOT EXISTS users_id_seq;
+CREATE SEQUENCE IF NOT EXISTS semesters_id_seq;
+CREATE SEQUENCE IF NOT EXISTS subjects_id_seq;
+CREATE SEQUENCE IF NOT EXISTS notes_id_seq;
+CREATE SEQUENCE IF NOT EXISTS question_papers_id_seq;
+CREATE SEQUENCE IF NOT EXISTS video_links_id_seq;
+CREATE SEQUENCE IF NOT EXISTS rooms_id_seq;
+CREATE SEQUENCE IF NOT EXISTS bookings_id_seq;
+CREATE SEQUENCE IF NOT EXISTS study_tasks_id_seq;
+CREATE SEQUENCE IF NOT EXISTS user_device_tokens_id_seq;
+CREATE SEQUENCE IF NOT EXISTS analytics_events_id_seq;
+
+-- PostgreSQL type names H2 does not know
+CREATE DOMAIN IF NOT EXISTS timestamptz AS TIMESTAMP WITH TIME ZONE;
+CREATE DOMAIN IF NOT EXISTS jsonb AS JSON;